@@ -0,0 +1,57 @@
+package com.chess.bench;
+
+import com.chess.book.OpeningBook;
+import com.chess.cache.AnalysisCache;
+import com.chess.dto.AnalyzeRequest;
+import com.chess.metrics.AnalysisMetrics;
+import com.chess.service.AnalysisService;
+import com.chess.tablebase.EndgameTablebase;
+import org.openjdk.jmh.annotations.*;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full /analyze request handling (board loading, validation, dots and game status) on the
+ * corpus, called directly on AnalysisService so HTTP and JSON costs are excluded.
+ * Uncached runs get a fresh 2-entry cache per call; cached runs show repeated positions.
+ * The metrics parameter measures the cost of the per-phase instrumentation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnalyzeBenchmark {
+
+    @Param({BenchPositions.OPENING, BenchPositions.MIDDLEGAME, BenchPositions.ENDGAME, BenchPositions.MATE_IN_ONE})
+    public String position;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    @Param({"json", "fen"})
+    public String form;
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private AnalysisService service;
+    private AnalysisMetrics analysisMetrics;
+    private AnalyzeRequest request;
+
+    @Setup
+    public void setup() {
+        analysisMetrics = new AnalysisMetrics(metrics);
+        service = new AnalysisService(new AnalysisCache(65536, "two-way"), new OpeningBook(""), new EndgameTablebase(""),
+                analysisMetrics);
+        request = form.equals("fen") ? BenchPositions.analyzeFenRequest(position) : BenchPositions.analyzeRequest(position);
+    }
+
+    @Benchmark
+    public Map<String, Object> analyzeMove() {
+        AnalysisService target = cached ? service : new AnalysisService(new AnalysisCache(2, "always-replace"),
+                new OpeningBook(""), new EndgameTablebase(""), analysisMetrics);
+        return target.analyze(request);
+    }
+}
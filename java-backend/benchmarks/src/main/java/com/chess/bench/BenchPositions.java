@@ -0,0 +1,82 @@
+package com.chess.bench;
+
+import com.chess.dto.AnalyzeRequest;
+import com.chess.dto.Coordinates;
+import com.chess.dto.PieceDto;
+import com.chess.model.BitboardPosition;
+import com.chess.model.Fen;
+import com.chess.model.Piece;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark corpus: one standard position per game phase, each with a representative
+ * move for the side to move (the mate-in-one move delivers mate).
+ */
+public final class BenchPositions {
+
+    public static final String OPENING = "opening";
+    public static final String MIDDLEGAME = "middlegame";
+    public static final String ENDGAME = "endgame";
+    public static final String MATE_IN_ONE = "mateInOne";
+
+    private static final Map<String, String> FENS = Map.of(
+        OPENING, "r1bqkbnr/pppp1ppp/2n5/1B2p3/4P3/5N2/PPPP1PPP/RNBQK2R b KQkq - 3 3",
+        MIDDLEGAME, "r2q1rk1/pp2bppp/2n1bn2/3p4/3P4/2NBPN2/PP3PPP/R1BQ1RK1 w - - 0 10",
+        ENDGAME, "8/5pk1/6p1/8/3R4/6PP/r4P1K/8 w - - 0 40",
+        MATE_IN_ONE, "6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1"
+    );
+
+    // from, to as square names
+    private static final Map<String, String[]> MOVES = Map.of(
+        OPENING, new String[]{"a7", "a6"},
+        MIDDLEGAME, new String[]{"c3", "b5"},
+        ENDGAME, new String[]{"d4", "d7"},
+        MATE_IN_ONE, new String[]{"a1", "a8"}
+    );
+
+    private BenchPositions() {}
+
+    public static BitboardPosition position(String name) {
+        return Fen.parse(FENS.get(name));
+    }
+
+    public static List<Piece> pieces(String name) {
+        return position(name).toPieces();
+    }
+
+    public static int from(String name) {
+        return Fen.parseSquare(MOVES.get(name)[0]);
+    }
+
+    public static int to(String name) {
+        return Fen.parseSquare(MOVES.get(name)[1]);
+    }
+
+    // The original /analyze request shape: from, to, piece and the full boardState array
+    public static AnalyzeRequest analyzeRequest(String name) {
+        BitboardPosition position = position(name);
+        int from = from(name);
+
+        List<PieceDto> boardState = new ArrayList<>();
+        for (Piece p : position.toPieces()) {
+            boardState.add(new PieceDto(coordinates(p.getSquare().index()),
+                    p.getType().getName(), p.getTeam().getName(), p.isHasMoved(), false));
+        }
+        PieceDto piece = new PieceDto(coordinates(from), BitboardPosition.typeName(position.typeAt(from)),
+                BitboardPosition.teamName(position.teamAt(from)), position.hasMoved(from), false);
+        int totalMoves = position.getSideToMove() == BitboardPosition.WHITE ? 20 : 21;
+        return new AnalyzeRequest(coordinates(from), coordinates(to(name)), piece, boardState, totalMoves, null, null, null);
+    }
+
+    // The compact /analyze request shape: FEN plus a UCI move
+    public static AnalyzeRequest analyzeFenRequest(String name) {
+        String[] move = MOVES.get(name);
+        return new AnalyzeRequest(null, null, null, null, 0, FENS.get(name), move[0] + move[1], null);
+    }
+
+    private static Coordinates coordinates(int square) {
+        return new Coordinates(square & 7, square >>> 3);
+    }
+}
@@ -0,0 +1,68 @@
+package com.chess.bench;
+
+import com.chess.engine.Evaluator;
+import com.chess.engine.PieceSquareEvaluator;
+import com.chess.engine.nnue.NnueEvaluator;
+import com.chess.engine.nnue.NnueKernels;
+import com.chess.engine.nnue.NnueNetwork;
+import com.chess.model.BitboardPosition;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluations per second of the piece-square evaluator against the NNUE evaluator with
+ * scalar and SIMD kernels, on the same positions. moveAndEvaluate is what the search does
+ * at a leaf: play the move through the evaluator (an incremental accumulator update for
+ * NNUE), evaluate, take it back. The network has the default shape with random weights;
+ * speed does not depend on the values.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class EvaluatorBenchmark {
+
+    public static final String PIECE_SQUARE = "pieceSquare";
+    public static final String NNUE_SCALAR = "nnueScalar";
+    public static final String NNUE_SIMD = "nnueSimd";
+
+    @Param({BenchPositions.OPENING, BenchPositions.MIDDLEGAME, BenchPositions.ENDGAME})
+    public String position;
+
+    @Param({PIECE_SQUARE, NNUE_SCALAR, NNUE_SIMD})
+    public String evaluator;
+
+    private BitboardPosition bitboard;
+    private Evaluator eval;
+    private int move;
+
+    @Setup
+    public void setup() {
+        bitboard = BenchPositions.position(position);
+        move = bitboard.encodeMove(BenchPositions.from(position), BenchPositions.to(position), 0);
+        NnueNetwork network = NnueNetwork.random(1, 256, 32, 32);
+        eval = switch (evaluator) {
+            case NNUE_SCALAR -> new NnueEvaluator(network, NnueKernels.SCALAR);
+            case NNUE_SIMD -> new NnueEvaluator(network, NnueKernels.best());
+            default -> new PieceSquareEvaluator();
+        };
+        if (evaluator.equals(NNUE_SIMD) && NnueKernels.best() == NnueKernels.SCALAR) {
+            System.out.println("jdk.incubator.vector is not available; " + NNUE_SIMD + " runs the scalar kernels");
+        }
+    }
+
+    @Benchmark
+    public int evaluate() {
+        return eval.evaluate(bitboard);
+    }
+
+    @Benchmark
+    public int moveAndEvaluate() {
+        eval.makeMove(bitboard, move);
+        int score = eval.evaluate(bitboard);
+        eval.unmakeMove(bitboard, move);
+        return score;
+    }
+}
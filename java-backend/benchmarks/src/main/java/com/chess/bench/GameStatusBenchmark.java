@@ -0,0 +1,69 @@
+package com.chess.bench;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Piece;
+import com.chess.model.Team;
+import com.chess.rules.CheckmateDetector;
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * isKingInCheck / isCheckmate / isStalemate for the side to move, through the
+ * List<Piece> entry points (conversion included) and directly on a bitboard.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameStatusBenchmark {
+
+    @Param({BenchPositions.OPENING, BenchPositions.MIDDLEGAME, BenchPositions.ENDGAME, BenchPositions.MATE_IN_ONE})
+    public String position;
+
+    private List<Piece> pieces;
+    private BitboardPosition bitboard;
+    private Team team;
+    private int side;
+
+    @Setup
+    public void setup() {
+        bitboard = BenchPositions.position(position);
+        if (position.equals(BenchPositions.MATE_IN_ONE)) {
+            // Measure the mated side, the expensive case for mate detection
+            bitboard.remove(BenchPositions.from(position));
+            bitboard.put(BenchPositions.to(position), BitboardPosition.WHITE, BitboardPosition.ROOK, true);
+            bitboard.setSideToMove(BitboardPosition.BLACK);
+        }
+        pieces = bitboard.toPieces();
+        side = bitboard.getSideToMove();
+        team = Team.of(side);
+    }
+
+    @Benchmark
+    public boolean isKingInCheck() {
+        return CheckmateDetector.isKingInCheck(team, pieces);
+    }
+
+    @Benchmark
+    public boolean isCheckmate() {
+        return CheckmateDetector.isCheckmate(team, pieces);
+    }
+
+    @Benchmark
+    public boolean isStalemate() {
+        return CheckmateDetector.isStalemate(team, pieces);
+    }
+
+    @Benchmark
+    public boolean isKingInCheckBitboard() {
+        return CheckmateDetector.isKingInCheck(side, bitboard);
+    }
+
+    @Benchmark
+    public boolean isCheckmateBitboard() {
+        return CheckmateDetector.isCheckmate(side, bitboard);
+    }
+}
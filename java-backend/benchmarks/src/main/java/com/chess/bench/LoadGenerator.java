@@ -0,0 +1,188 @@
+package com.chess.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Closed-loop load test for POST /api/chess/analyze. Each of `concurrency` clients replays
+ * the recorded requests in order (starting at its own offset) and sends the next one as
+ * soon as the previous answer arrives. After a warmup, latencies are recorded for the
+ * measured period and reported as p50/p90/p99/max with the throughput.
+ *
+ * Several targets are run one after another with the same workload, so the two request
+ * modes can be compared side by side, e.g. with one instance started normally and one
+ * with --spring.threads.virtual.enabled=true (Java 21+):
+ *
+ *   java -cp target/benchmarks.jar com.chess.bench.LoadGenerator \
+ *       [--concurrency 64] [--seconds 20] [--warmup 5] [--requests file.ndjson] \
+ *       platform=http://localhost:8080 virtual=http://localhost:8081
+ *
+ * The default workload is loadtest/analyze-requests.ndjson: every move of one recorded
+ * game, alternating the FEN + UCI and the full boardState request shapes.
+ */
+public class LoadGenerator {
+
+    private static final String DEFAULT_REQUESTS = "/loadtest/analyze-requests.ndjson";
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = 64;
+        int seconds = 20;
+        int warmup = 5;
+        String requestsFile = null;
+        List<String> targets = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--concurrency" -> concurrency = Integer.parseInt(args[++i]);
+                case "--seconds" -> seconds = Integer.parseInt(args[++i]);
+                case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                case "--requests" -> requestsFile = args[++i];
+                default -> targets.add(args[i]);
+            }
+        }
+        if (targets.isEmpty()) targets.add("http://localhost:8080");
+
+        List<byte[]> bodies = loadRequests(requestsFile);
+        System.out.printf("%d recorded requests, %d clients, %d s warmup, %d s measured%n",
+                bodies.size(), concurrency, warmup, seconds);
+        System.out.printf("%-10s %10s %8s %9s %9s %9s %9s%n", "target", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (String target : targets) {
+            int split = target.indexOf('=');
+            String label = split > 0 ? target.substring(0, split) : target;
+            String baseUrl = split > 0 ? target.substring(split + 1) : target;
+            run(label, URI.create(baseUrl.replaceAll("/+$", "") + "/api/chess/analyze"), bodies, concurrency, warmup, seconds);
+        }
+    }
+
+    private static void run(String label, URI uri, List<byte[]> bodies, int concurrency, int warmup, int seconds)
+            throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup * 1_000_000_000L;
+        long measureUntil = measureFrom + seconds * 1_000_000_000L;
+
+        Client[] clients = new Client[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Client c = new Client(client, uri, bodies, i % bodies.size(), measureFrom, measureUntil);
+            clients[i] = c;
+            Thread thread = new Thread(() -> {
+                try {
+                    c.run();
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        int total = 0;
+        long errors = 0;
+        for (Client c : clients) {
+            total += c.count;
+            errors += c.errors;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (Client c : clients) {
+            System.arraycopy(c.latencies, 0, latencies, offset, c.count);
+            offset += c.count;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-10s %10.0f %8d %9.2f %9.2f %9.2f %9.2f%n", label, total / (double) seconds, errors,
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                total == 0 ? 0 : latencies[total - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double percent) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percent / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    static List<byte[]> loadRequests(String file) throws IOException {
+        String text;
+        if (file != null) {
+            text = Files.readString(Path.of(file));
+        } else {
+            try (InputStream in = LoadGenerator.class.getResourceAsStream(DEFAULT_REQUESTS)) {
+                if (in == null) throw new IOException("Missing resource " + DEFAULT_REQUESTS);
+                text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+        List<byte[]> bodies = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            if (!line.isBlank()) bodies.add(line.strip().getBytes(StandardCharsets.UTF_8));
+        }
+        if (bodies.isEmpty()) throw new IOException("No requests to replay");
+        return bodies;
+    }
+
+    // One closed-loop client; latencies are kept per client and merged at the end
+    private static final class Client implements Runnable {
+        private final HttpClient client;
+        private final URI uri;
+        private final List<byte[]> bodies;
+        private final long measureFrom;
+        private final long measureUntil;
+        private int next;
+        private long[] latencies = new long[4096];
+        private int count;
+        private long errors;
+
+        Client(HttpClient client, URI uri, List<byte[]> bodies, int first, long measureFrom, long measureUntil) {
+            this.client = client;
+            this.uri = uri;
+            this.bodies = bodies;
+            this.next = first;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                byte[] body = bodies.get(next);
+                next = (next + 1) % bodies.size();
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                        .build();
+
+                long sent = System.nanoTime();
+                if (sent >= measureUntil) return;
+                boolean ok;
+                try {
+                    HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    ok = response.statusCode() == 200;
+                } catch (IOException e) {
+                    ok = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long received = System.nanoTime();
+                if (sent < measureFrom) continue;
+                if (!ok) errors++;
+                if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+                latencies[count++] = received - sent;
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.chess.bench;
+
+import com.chess.engine.MateResult;
+import com.chess.engine.MateSolver;
+import com.chess.model.BitboardPosition;
+import com.chess.model.Fen;
+import org.openjdk.jmh.annotations.*;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to prove a mate-in-N puzzle, and to prove that a quiet position has none, with
+ * one reused solver as the /mate/batch workers do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MateSolverBenchmark {
+
+    // FEN and the number of moves to solve for
+    private static final Map<String, String[]> PUZZLES = Map.of(
+        "mateIn1", new String[]{"6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1", "1"},
+        "mateIn2", new String[]{"r2qkb1r/pp2nppp/3p4/2pNN1B1/2BnP3/3P4/PPP2PPP/R2bK2R w KQkq - 1 1", "2"},
+        "mateIn3", new String[]{"r5rk/5p1p/5R2/4B3/8/8/7P/7K w - - 0 1", "3"},
+        "noMateIn2", new String[]{"r2q1rk1/pp2bppp/2n1bn2/3p4/3P4/2NBPN2/PP3PPP/R1BQ1RK1 w - - 0 10", "2"}
+    );
+
+    @Param({"mateIn1", "mateIn2", "mateIn3", "noMateIn2"})
+    public String puzzle;
+
+    @Param({"false", "true"})
+    public boolean checksOnly;
+
+    private final MateSolver solver = new MateSolver(8);
+    private BitboardPosition position;
+    private int maxMoves;
+
+    @Setup
+    public void setup() {
+        position = Fen.parse(PUZZLES.get(puzzle)[0]);
+        maxMoves = Integer.parseInt(PUZZLES.get(puzzle)[1]);
+    }
+
+    @Benchmark
+    public MateResult solve() {
+        return solver.solve(position, maxMoves, checksOnly, 0, 0);
+    }
+}
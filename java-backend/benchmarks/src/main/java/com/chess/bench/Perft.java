@@ -0,0 +1,44 @@
+package com.chess.bench;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.MoveList;
+import com.chess.rules.MoveGenerator;
+
+/**
+ * Perft (performance test): counts the leaf nodes of the legal move tree to a fixed depth.
+ * Uses in-place make/unmake and one preallocated move list and generator per ply.
+ */
+public class Perft {
+    private final MoveList[] moves;
+    private final MoveGenerator[] generators;
+
+    public Perft(int maxDepth) {
+        moves = new MoveList[maxDepth + 1];
+        generators = new MoveGenerator[maxDepth + 1];
+        for (int i = 0; i <= maxDepth; i++) {
+            moves[i] = new MoveList();
+            generators[i] = new MoveGenerator();
+        }
+    }
+
+    public long count(BitboardPosition position, int depth) {
+        if (depth == 0) return 1;
+
+        MoveList list = moves[depth];
+        list.clear();
+        MoveGenerator generator = generators[depth];
+        generator.reset(position, position.getSideToMove());
+        generator.generate(list);
+        // Bulk counting: the number of legal moves is the node count one ply down
+        if (depth == 1) return list.size();
+
+        long nodes = 0;
+        for (int i = 0; i < list.size(); i++) {
+            int move = list.get(i);
+            position.makeMove(move);
+            nodes += count(position, depth - 1);
+            position.unmakeMove(move);
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,56 @@
+package com.chess.bench;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Fen;
+
+/**
+ * Runs perft over the standard test positions, checks the node counts against the
+ * published values and reports nodes/second. Exits with status 1 on any mismatch.
+ *
+ *   java -cp target/benchmarks.jar com.chess.bench.PerftRunner [maxDepth]
+ */
+public class PerftRunner {
+
+    // FEN followed by the known node counts for depth 1, 2, 3, ...
+    // (chessprogramming.org "Perft Results"; kiwipete and positions 4-5 exercise
+    // castling, en passant and promotion)
+    private static final Object[][] SUITE = {
+        {"startpos", Fen.START, new long[]{20, 400, 8902, 197281, 4865609}},
+        {"kiwipete", "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                new long[]{48, 2039, 97862, 4085603}},
+        {"position3", "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", new long[]{14, 191, 2812, 43238, 674624}},
+        {"position4", "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                new long[]{6, 264, 9467, 422333}},
+        {"position5", "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8", new long[]{44, 1486, 62379, 2103487}},
+    };
+
+    public static void main(String[] args) {
+        int maxDepth = args.length > 0 ? Integer.parseInt(args[0]) : Integer.MAX_VALUE;
+        boolean allPassed = true;
+        long totalNodes = 0;
+        long totalNanos = 0;
+
+        for (Object[] entry : SUITE) {
+            String name = (String) entry[0];
+            long[] expected = (long[]) entry[2];
+            BitboardPosition position = Fen.parse((String) entry[1]);
+            Perft perft = new Perft(expected.length);
+
+            for (int depth = 1; depth <= Math.min(maxDepth, expected.length); depth++) {
+                long start = System.nanoTime();
+                long nodes = perft.count(position, depth);
+                long nanos = System.nanoTime() - start;
+                boolean passed = nodes == expected[depth - 1];
+                allPassed &= passed;
+                totalNodes += nodes;
+                totalNanos += nanos;
+                System.out.printf("%-10s depth %d  nodes %,12d  expected %,12d  %s  %,.0f nodes/s%n",
+                        name, depth, nodes, expected[depth - 1], passed ? "OK  " : "FAIL", nodes * 1e9 / Math.max(1, nanos));
+            }
+        }
+
+        System.out.printf("total %,d nodes in %.3f s (%,.0f nodes/s)%n",
+                totalNodes, totalNanos / 1e9, totalNodes * 1e9 / Math.max(1, totalNanos));
+        if (!allPassed) System.exit(1);
+    }
+}
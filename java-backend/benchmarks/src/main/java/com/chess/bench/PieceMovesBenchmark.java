@@ -0,0 +1,73 @@
+package com.chess.bench;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Piece;
+import com.chess.model.PieceType;
+import com.chess.model.Square;
+import com.chess.model.Team;
+import com.chess.rules.*;
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getPossibleMoves per piece type, through the List<Piece> entry points the controller
+ * historically called and through the bitboard / legal-move paths it uses now.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PieceMovesBenchmark {
+
+    @Param({BenchPositions.OPENING, BenchPositions.MIDDLEGAME})
+    public String position;
+
+    @Param({"pawn", "knight", "bishop", "rook", "queen", "king"})
+    public String pieceType;
+
+    private List<Piece> pieces;
+    private BitboardPosition bitboard;
+    private MoveGenerator generator;
+    private Square from;
+    private int fromSquare;
+    private Team team;
+
+    @Setup
+    public void setup() {
+        bitboard = BenchPositions.position(position);
+        pieces = bitboard.toPieces();
+        int side = bitboard.getSideToMove();
+        long candidates = bitboard.getPieces(side, PieceType.parse(pieceType).index());
+        if (candidates == 0) throw new IllegalStateException("No " + pieceType + " in " + position);
+        fromSquare = Long.numberOfTrailingZeros(candidates);
+        from = Square.of(fromSquare);
+        team = Team.of(side);
+        generator = new MoveGenerator();
+    }
+
+    @Benchmark
+    public List<Square> listEntryPoint() {
+        switch (pieceType) {
+            case "pawn": return PawnRules.getPossibleMoves(from, team, pieces);
+            case "knight": return KnightRules.getPossibleMoves(from, team, pieces);
+            case "bishop": return BishopRules.getPossibleMoves(from, team, pieces);
+            case "rook": return RookRules.getPossibleMoves(from, team, pieces);
+            case "queen": return QueenRules.getPossibleMoves(from, team, pieces);
+            default: return KingRules.getPossibleMoves(from, team, pieces);
+        }
+    }
+
+    @Benchmark
+    public long pseudoLegalMask() {
+        return GeneralRules.getMoveMask(fromSquare, bitboard);
+    }
+
+    @Benchmark
+    public long legalMask() {
+        generator.reset(bitboard, bitboard.getSideToMove());
+        return generator.getLegalMoves(fromSquare);
+    }
+}
@@ -0,0 +1,55 @@
+package com.chess.bench;
+
+import com.chess.dto.AnalyzeRequest;
+import com.chess.model.BitboardPosition;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wire-format cost of /analyze: Jackson deserialization of the request body plus loading
+ * it into a BitboardPosition, for the original piece-array JSON, the same JSON bound to the
+ * old untyped Map, and the compact FEN + UCI form.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestParsingBenchmark {
+
+    @Param({BenchPositions.OPENING, BenchPositions.ENDGAME})
+    public String position;
+
+    private ObjectMapper mapper;
+    private byte[] jsonBody;
+    private byte[] fenBody;
+
+    @Setup
+    public void setup() throws Exception {
+        // Same unknown-property leniency as Spring Boot's auto-configured mapper
+        mapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        jsonBody = mapper.writeValueAsBytes(BenchPositions.analyzeRequest(position));
+        fenBody = mapper.writeValueAsBytes(Map.of("fen", BenchPositions.analyzeFenRequest(position).fen(),
+                "move", BenchPositions.analyzeFenRequest(position).move()));
+        System.out.printf("%n%s payload: json %d bytes, fen %d bytes%n", position, jsonBody.length, fenBody.length);
+    }
+
+    @Benchmark
+    public Object untypedMap() throws Exception {
+        return mapper.readValue(jsonBody, Map.class);
+    }
+
+    @Benchmark
+    public BitboardPosition typedJson() throws Exception {
+        return mapper.readValue(jsonBody, AnalyzeRequest.class).toPosition();
+    }
+
+    @Benchmark
+    public BitboardPosition fenAndUci() throws Exception {
+        return mapper.readValue(fenBody, AnalyzeRequest.class).toPosition();
+    }
+}
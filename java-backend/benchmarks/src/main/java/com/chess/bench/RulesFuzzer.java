@@ -0,0 +1,384 @@
+package com.chess.bench;
+
+import com.chess.bench.baseline.CheckmateDetector;
+import com.chess.bench.baseline.GeneralRules;
+import com.chess.bench.baseline.Piece;
+import com.chess.bench.baseline.Position;
+import com.chess.model.BitboardPosition;
+import com.chess.model.Fen;
+import com.chess.model.Move;
+import com.chess.model.MoveList;
+import com.chess.model.PieceType;
+import com.chess.model.Team;
+import com.chess.rules.MoveGenerator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Differential fuzzing of MoveGenerator against the original list rules, kept unchanged in
+ * com.chess.bench.baseline. The corpus is every position of random legal games plus
+ * random legal placements, all from one seed.
+ *
+ * Independent of MoveGenerator: the reference's legal moves (each piece's baseline
+ * getPossibleMoves, kept when the baseline isKingInCheck is false after the baseline
+ * simulateMove), its check test, and mate and stalemate, which it derives from those moves
+ * and check alone. The baseline has no castling, so the reference adds it here from the
+ * moved flags and the baseline check test: king and rook unmoved, the squares between
+ * empty, the king not in check and not passing through or landing on an attacked square.
+ *
+ * Not independent: the corpus games are played with MoveGenerator, so positions only it
+ * can reach are skipped and positions it wrongly allows can appear. En passant is not
+ * compared (the baseline has no en passant square and the fast side is built without
+ * one), and promotions are compared as from-to only, since the baseline does not promote.
+ *
+ * Legal-move sets, check, mate and stalemate must agree; a mismatch is shrunk by dropping
+ * pieces and normalising moved flags while it still reproduces, then printed as FEN.
+ * Afterwards both sides are timed per position and the speedup distribution is reported.
+ * Exits with status 1 on any mismatch.
+ *
+ *   java -cp target/benchmarks.jar com.chess.bench.RulesFuzzer \
+ *       [--seed 1] [--games 200] [--plies 160] [--positions 5000] [--reps 20]
+ */
+public class RulesFuzzer {
+
+    private static final int MAX_REPORTED = 10;
+
+    // One corpus entry: the baseline board and side to move ("w" or "b"), with where it came from
+    private record Case(List<Piece> board, String team, String origin) {}
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        long seed = 1;
+        int games = 200;
+        int plies = 160;
+        int positions = 5000;
+        int reps = 20;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                case "--plies" -> plies = Integer.parseInt(args[++i]);
+                case "--positions" -> positions = Integer.parseInt(args[++i]);
+                case "--reps" -> reps = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        // --- 1. CORPUS ---
+        Random random = new Random(seed);
+        List<Case> corpus = new ArrayList<>();
+        for (int game = 0; game < games; game++) randomGame(random, plies, "game " + game, corpus);
+        int fromGames = corpus.size();
+        for (int i = 0; i < positions; i++) corpus.add(randomPlacement(random, "placement " + i));
+        System.out.printf("seed %d: %d positions from %d games, %d random placements%n",
+                seed, fromGames, games, corpus.size() - fromGames);
+
+        // --- 2. DIFFERENTIAL CHECK ---
+        int mismatches = 0;
+        for (Case c : corpus) {
+            String difference = compare(c.board, c.team);
+            if (difference == null) continue;
+            if (++mismatches > MAX_REPORTED) continue;
+            List<Piece> minimal = shrink(c.board, c.team);
+            System.out.printf("MISMATCH %s%n  original %s%n  minimal  %s%n  %s%n", c.origin,
+                    describe(c.board, c.team), describe(minimal, c.team), compare(minimal, c.team));
+        }
+        System.out.printf("%d of %d positions disagree%n", mismatches, corpus.size());
+
+        // --- 3. SPEEDUP ---
+        // Warm both sides up on the whole corpus, then time each position on its own
+        for (int pass = 0; pass < 3; pass++) {
+            for (Case c : corpus) {
+                sink += reference(c.board, c.team);
+                sink += fast(position(c.board), teamIndex(c.team), new MoveList());
+            }
+        }
+        double[] speedups = new double[corpus.size()];
+        long referenceNanos = 0;
+        long fastNanos = 0;
+        MoveList moves = new MoveList();
+        for (int i = 0; i < corpus.size(); i++) {
+            Case c = corpus.get(i);
+            BitboardPosition position = position(c.board);
+            int team = teamIndex(c.team);
+
+            long start = System.nanoTime();
+            for (int rep = 0; rep < reps; rep++) sink += reference(c.board, c.team);
+            long reference = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int rep = 0; rep < reps; rep++) sink += fast(position, team, moves);
+            long fast = System.nanoTime() - start;
+
+            referenceNanos += reference;
+            fastNanos += fast;
+            speedups[i] = reference / (double) Math.max(1, fast);
+        }
+        Arrays.sort(speedups);
+        long calls = (long) corpus.size() * reps;
+        System.out.printf("baseline rules %,10.0f ns/position%n", referenceNanos / (double) calls);
+        System.out.printf("MoveGenerator  %,10.0f ns/position%n", fastNanos / (double) calls);
+        System.out.printf("speedup per position: min %.1fx  p10 %.1fx  median %.1fx  p90 %.1fx  max %.1fx  (overall %.1fx)%n",
+                speedups[0], percentile(speedups, 10), percentile(speedups, 50), percentile(speedups, 90),
+                speedups[speedups.length - 1], referenceNanos / (double) Math.max(1, fastNanos));
+
+        if (mismatches > 0) System.exit(1);
+    }
+
+    // --- CORPUS GENERATION ---
+
+    // Every position of one game of uniformly random legal moves from the start position
+    private static void randomGame(Random random, int plies, String name, List<Case> corpus) {
+        BitboardPosition position = Fen.parse(Fen.START);
+        MoveList moves = new MoveList();
+        for (int ply = 0; ply < plies; ply++) {
+            int side = position.getSideToMove();
+            corpus.add(new Case(board(position), teamName(side), name + " ply " + ply));
+            moves.clear();
+            new MoveGenerator(position, side).generate(moves);
+            if (moves.isEmpty()) return;
+            position.makeMove(moves.get(random.nextInt(moves.size())));
+        }
+    }
+
+    // Two kings plus up to twelve random pieces, with the side not to move out of check.
+    // Moved flags are what a game could produce: pawns off their start rank have moved,
+    // kings and rooks on their home squares keep their castling flags most of the time.
+    private static Case randomPlacement(Random random, String name) {
+        while (true) {
+            BitboardPosition position = new BitboardPosition();
+            int whiteKing = random.nextInt(64);
+            int blackKing = random.nextInt(64);
+            if (Math.abs((whiteKing & 7) - (blackKing & 7)) <= 1 && Math.abs((whiteKing >>> 3) - (blackKing >>> 3)) <= 1) continue;
+            position.put(whiteKing, BitboardPosition.WHITE, BitboardPosition.KING, !isHome(whiteKing, BitboardPosition.WHITE, BitboardPosition.KING) || random.nextInt(4) == 0);
+            position.put(blackKing, BitboardPosition.BLACK, BitboardPosition.KING, !isHome(blackKing, BitboardPosition.BLACK, BitboardPosition.KING) || random.nextInt(4) == 0);
+
+            int extra = random.nextInt(13);
+            for (int i = 0; i < extra; i++) {
+                int square = random.nextInt(64);
+                if (position.pieceAt(square) != BitboardPosition.EMPTY) continue;
+                int team = random.nextInt(2);
+                int type = random.nextInt(BitboardPosition.KING);
+                int rank = square >>> 3;
+                if (type == BitboardPosition.PAWN && (rank == 0 || rank == 7)) continue;
+                boolean moved = type == BitboardPosition.PAWN ? rank != (team == BitboardPosition.WHITE ? 1 : 6)
+                        : !isHome(square, team, type) || random.nextInt(4) == 0;
+                position.put(square, team, type, moved);
+            }
+
+            String team = teamName(random.nextInt(2));
+            List<Piece> board = board(position);
+            if (CheckmateDetector.isKingInCheck(opponent(team), board)) continue;
+            return new Case(board, team, name);
+        }
+    }
+
+    private static boolean isHome(int square, int team, int type) {
+        int base = team == BitboardPosition.WHITE ? 0 : 56;
+        if (type == BitboardPosition.KING) return square == base + 4;
+        if (type == BitboardPosition.ROOK) return square == base || square == base + 7;
+        return false;
+    }
+
+    // --- THE TWO IMPLEMENTATIONS ---
+
+    // A description of how the two sides disagree, or null when they agree
+    private static String compare(List<Piece> board, String team) {
+        Set<String> expected = referenceMoves(board, team);
+        boolean expectedCheck = CheckmateDetector.isKingInCheck(team, board);
+        boolean expectedMate = expectedCheck && expected.isEmpty();
+        boolean expectedStalemate = !expectedCheck && expected.isEmpty();
+
+        MoveGenerator generator = new MoveGenerator(position(board), teamIndex(team));
+        MoveList moves = new MoveList();
+        generator.generate(moves);
+        Set<String> actual = new TreeSet<>();
+        for (int i = 0; i < moves.size(); i++) actual.add(name(Move.from(moves.get(i)), Move.to(moves.get(i))));
+
+        List<String> differences = new ArrayList<>();
+        if (!expected.equals(actual)) {
+            Set<String> onlyBaseline = new TreeSet<>(expected);
+            onlyBaseline.removeAll(actual);
+            Set<String> onlyGenerator = new TreeSet<>(actual);
+            onlyGenerator.removeAll(expected);
+            differences.add("moves only in baseline " + onlyBaseline + ", only in MoveGenerator " + onlyGenerator);
+        }
+        if (expectedCheck != generator.isCheck()) differences.add("check " + expectedCheck + " vs " + generator.isCheck());
+        if (expectedMate != generator.isCheckmate()) differences.add("mate " + expectedMate + " vs " + generator.isCheckmate());
+        if (expectedStalemate != generator.isStalemate()) {
+            differences.add("stalemate " + expectedStalemate + " vs " + generator.isStalemate());
+        }
+        return differences.isEmpty() ? null : String.join("; ", differences);
+    }
+
+    // The baseline path as timed: legal moves, check, mate and stalemate
+    private static int reference(List<Piece> board, String team) {
+        Set<String> moves = referenceMoves(board, team);
+        boolean check = CheckmateDetector.isKingInCheck(team, board);
+        int result = moves.size();
+        if (check) result += 1000;
+        if (check && moves.isEmpty()) result += 2000;
+        if (!check && moves.isEmpty()) result += 4000;
+        return result;
+    }
+
+    // The generator path as timed: the same four answers from one MoveGenerator
+    private static int fast(BitboardPosition position, int team, MoveList moves) {
+        moves.clear();
+        MoveGenerator generator = new MoveGenerator(position, team);
+        int result = generator.generate(moves);
+        if (generator.isCheck()) result += 1000;
+        if (generator.isCheckmate()) result += 2000;
+        if (generator.isStalemate()) result += 4000;
+        return result;
+    }
+
+    private static Set<String> referenceMoves(List<Piece> board, String team) {
+        Set<String> moves = new TreeSet<>();
+        for (Piece piece : board) {
+            if (!GeneralRules.isSameTeam(piece.getTeam(), team)) continue;
+            Position from = piece.getPosition();
+            for (Position to : CheckmateDetector.getAllPotentialMoves(piece, board)) {
+                List<Piece> after = CheckmateDetector.simulateMove(board, from, to);
+                if (!CheckmateDetector.isKingInCheck(team, after)) moves.add(name(square(from), square(to)));
+            }
+            if (piece.getType().equals("king")) castling(piece, board, team, moves);
+        }
+        return moves;
+    }
+
+    // Castling on the baseline board: unmoved king and rook, nothing between them, and the
+    // king neither in check nor crossing or landing on an attacked square
+    private static void castling(Piece king, List<Piece> board, String team, Set<String> moves) {
+        Position from = king.getPosition();
+        int rank = team.equals("w") ? 0 : 7;
+        if (king.isHasMoved() || from.getX() != 4 || from.getY() != rank) return;
+        if (CheckmateDetector.isKingInCheck(team, board)) return;
+        for (int rookX : new int[] {0, 7}) {
+            Piece rook = pieceAt(board, rookX, rank);
+            if (rook == null || !rook.getType().equals("rook") || rook.isHasMoved()) continue;
+            if (!GeneralRules.isSameTeam(rook.getTeam(), team)) continue;
+            int step = rookX > 4 ? 1 : -1;
+            boolean clear = true;
+            for (int x = 4 + step; x != rookX; x += step) clear &= pieceAt(board, x, rank) == null;
+            if (!clear) continue;
+            Position cross = new Position(4 + step, rank);
+            Position to = new Position(4 + 2 * step, rank);
+            if (CheckmateDetector.isKingInCheck(team, CheckmateDetector.simulateMove(board, from, cross))) continue;
+            List<Piece> after = CheckmateDetector.simulateMove(board, from, to);
+            after = CheckmateDetector.simulateMove(after, rook.getPosition(), cross);
+            if (!CheckmateDetector.isKingInCheck(team, after)) moves.add(name(square(from), square(to)));
+        }
+    }
+
+    private static Piece pieceAt(List<Piece> board, int x, int y) {
+        for (Piece p : board) {
+            if (p.getPosition().getX() == x && p.getPosition().getY() == y) return p;
+        }
+        return null;
+    }
+
+    // --- CONVERSION ---
+
+    // The baseline's view of a position: string types, "w"/"b" teams and moved flags
+    private static List<Piece> board(BitboardPosition position) {
+        List<Piece> board = new ArrayList<>();
+        for (int square = 0; square < 64; square++) {
+            if (position.pieceAt(square) == BitboardPosition.EMPTY) continue;
+            board.add(new Piece(new Position(square & 7, square >>> 3), BitboardPosition.typeName(position.typeAt(square)),
+                    teamName(position.teamAt(square)), position.hasMoved(square)));
+        }
+        return board;
+    }
+
+    // The same pieces on a bitboard; castling rights follow the moved flags, no en passant square
+    private static BitboardPosition position(List<Piece> board) {
+        BitboardPosition position = new BitboardPosition();
+        for (Piece p : board) {
+            position.put(square(p.getPosition()), teamIndex(p.getTeam()), PieceType.parse(p.getType()).index(), p.isHasMoved());
+        }
+        position.setCastlingRights(position.deriveCastlingRights());
+        return position;
+    }
+
+    private static int square(Position position) {
+        return position.getY() * 8 + position.getX();
+    }
+
+    private static String teamName(int team) {
+        return BitboardPosition.teamName(team);
+    }
+
+    private static int teamIndex(String team) {
+        return Team.parse(team).index();
+    }
+
+    private static String opponent(String team) {
+        return team.equals("w") ? "b" : "w";
+    }
+
+    // --- SHRINKING ---
+
+    // Greedily drops pieces, then resets moved flags to what FEN implies, for as long as
+    // the two sides still disagree on a legal position
+    private static List<Piece> shrink(List<Piece> board, String team) {
+        List<Piece> current = new ArrayList<>(board);
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int i = 0; i < current.size() && !progress; i++) {
+                if (current.get(i).getType().equals("king")) continue;
+                List<Piece> candidate = new ArrayList<>(current);
+                candidate.remove(i);
+                if (reproduces(candidate, team)) {
+                    current = candidate;
+                    progress = true;
+                }
+            }
+        }
+        List<Piece> normalised = board(Fen.parse(fen(current, team)));
+        return reproduces(normalised, team) ? normalised : current;
+    }
+
+    private static boolean reproduces(List<Piece> board, String team) {
+        return !CheckmateDetector.isKingInCheck(opponent(team), board) && compare(board, team) != null;
+    }
+
+    // --- OUTPUT ---
+
+    private static String describe(List<Piece> board, String team) {
+        String fen = fen(board, team);
+        // FEN carries moved flags only through castling rights and pawn ranks, and only
+        // pawns, kings and rooks look at them
+        List<String> unusual = new ArrayList<>();
+        BitboardPosition implied = Fen.parse(fen);
+        for (Piece p : board) {
+            int square = square(p.getPosition());
+            String type = p.getType();
+            boolean relevant = type.equals("pawn") || type.equals("king") || type.equals("rook");
+            if (relevant && p.isHasMoved() != implied.hasMoved(square)) {
+                unusual.add(Fen.squareName(square) + (p.isHasMoved() ? " moved" : " unmoved"));
+            }
+        }
+        return unusual.isEmpty() ? fen : fen + "  (" + String.join(", ", unusual) + ")";
+    }
+
+    private static String fen(List<Piece> board, String team) {
+        BitboardPosition position = position(board);
+        position.setSideToMove(teamIndex(team));
+        return Fen.toFen(position);
+    }
+
+    private static String name(int from, int to) {
+        return Fen.squareName(from) + Fen.squareName(to);
+    }
+
+    private static double percentile(double[] sorted, double percent) {
+        int index = (int) Math.ceil(percent / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
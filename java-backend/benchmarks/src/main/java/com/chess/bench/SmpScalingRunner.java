@@ -0,0 +1,69 @@
+package com.chess.bench;
+
+import com.chess.engine.ParallelSearch;
+import com.chess.engine.PieceSquareEvaluator;
+import com.chess.engine.SearchLimits;
+import com.chess.engine.TranspositionTable;
+import com.chess.model.BitboardPosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Lazy SMP time-to-depth scaling: searches the opening, middlegame and endgame positions
+ * to a fixed depth with 1, 2, 4, ... threads up to every available core, starting from an
+ * empty hash table each time, and prints the time and speedup over one thread.
+ *
+ *   java -cp target/benchmarks.jar com.chess.bench.SmpScalingRunner [depth] [runs]
+ */
+public class SmpScalingRunner {
+
+    private static final String[] POSITIONS = {BenchPositions.OPENING, BenchPositions.MIDDLEGAME, BenchPositions.ENDGAME};
+
+    public static void main(String[] args) throws Exception {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) threadCounts.add(threads);
+        threadCounts.add(cores);
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, cores - 1), runnable -> {
+            Thread thread = new Thread(runnable, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        TranspositionTable table = new TranspositionTable(64);
+        ParallelSearch search = new ParallelSearch(new PieceSquareEvaluator(), table, pool, cores - 1);
+        SearchLimits limits = SearchLimits.depth(depth);
+
+        // Warm up the JIT on the single-threaded path
+        for (String name : POSITIONS) search.search(BenchPositions.position(name), SearchLimits.depth(Math.min(depth, 6)), 1);
+
+        System.out.printf("time to depth %d, best of %d runs, %d cores%n", depth, runs, cores);
+        double baseline = 0;
+        for (int threads : threadCounts) {
+            long totalNanos = 0;
+            long totalNodes = 0;
+            for (String name : POSITIONS) {
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < runs; run++) {
+                    table.clear();
+                    BitboardPosition position = BenchPositions.position(name);
+                    long start = System.nanoTime();
+                    ParallelSearch.Outcome outcome = search.search(position, limits, threads);
+                    best = Math.min(best, System.nanoTime() - start);
+                    totalNodes += outcome.result().nodes();
+                }
+                totalNanos += best;
+            }
+            double seconds = totalNanos / 1e9;
+            if (baseline == 0) baseline = seconds;
+            System.out.printf("threads %3d  time %8.3f s  speedup %5.2fx  nodes/s %,14.0f%n",
+                    threads, seconds, baseline / seconds, totalNodes / (double) runs / seconds);
+        }
+        pool.shutdownNow();
+    }
+}
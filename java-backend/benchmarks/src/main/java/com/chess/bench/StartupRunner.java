@@ -0,0 +1,143 @@
+package com.chess.bench;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cold-start comparison of server builds: launches each jar as a fresh JVM, measures the
+ * time from process start to the first successful POST /api/chess/analyze, then replays
+ * the recorded requests once and reads the resident set size (VmRSS, Linux only) after
+ * the first answer and after the replay.
+ *
+ *   java -cp target/benchmarks.jar com.chess.bench.StartupRunner [--runs 5] [--port 18080] \
+ *       [--requests file.ndjson] [--jvm-args "-Xshare:auto ..."] \
+ *       lite=../chess-lite/target/chess-lite.jar spring=../chess-backend/target/chess-backend-1.0.0-exec.jar
+ *
+ * Every run starts a new process, so the numbers include JVM startup and class loading.
+ */
+public class StartupRunner {
+
+    private static final long TIMEOUT_NANOS = 60_000_000_000L;
+
+    public static void main(String[] args) throws Exception {
+        int runs = 5;
+        int port = 18080;
+        String requestsFile = null;
+        List<String> jvmArgs = new ArrayList<>();
+        List<String> targets = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--runs" -> runs = Integer.parseInt(args[++i]);
+                case "--port" -> port = Integer.parseInt(args[++i]);
+                case "--requests" -> requestsFile = args[++i];
+                case "--jvm-args" -> jvmArgs.addAll(Arrays.asList(args[++i].trim().split("\\s+")));
+                default -> targets.add(args[i]);
+            }
+        }
+        if (targets.isEmpty()) {
+            System.err.println("usage: StartupRunner [--runs n] [--port p] [--requests file] [--jvm-args \"...\"] name=server.jar ...");
+            System.exit(2);
+        }
+
+        List<byte[]> bodies = LoadGenerator.loadRequests(requestsFile);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+
+        System.out.printf("%d runs per target, first request then %d recorded requests%n", runs, bodies.size());
+        System.out.printf("%-10s %12s %12s %14s %14s%n", "target", "best ms", "median ms", "RSS first MB", "RSS replay MB");
+        for (String target : targets) {
+            int split = target.indexOf('=');
+            String label = split > 0 ? target.substring(0, split) : target;
+            Path jar = Path.of(split > 0 ? target.substring(split + 1) : target);
+            if (!Files.isRegularFile(jar)) throw new IOException("No such jar " + jar);
+
+            long[] startup = new long[runs];
+            long rssFirst = 0;
+            long rssReplay = 0;
+            for (int run = 0; run < runs; run++) {
+                Sample sample = measure(client, jar, jvmArgs, port, bodies);
+                startup[run] = sample.startupNanos;
+                rssFirst = Math.max(rssFirst, sample.rssFirstKb);
+                rssReplay = Math.max(rssReplay, sample.rssReplayKb);
+            }
+            Arrays.sort(startup);
+            System.out.printf("%-10s %12.1f %12.1f %14s %14s%n", label, startup[0] / 1e6, startup[runs / 2] / 1e6,
+                    megabytes(rssFirst), megabytes(rssReplay));
+        }
+    }
+
+    private record Sample(long startupNanos, long rssFirstKb, long rssReplayKb) {}
+
+    private static Sample measure(HttpClient client, Path jar, List<String> jvmArgs, int port, List<byte[]> bodies)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-Dserver.port=" + port);
+        command.add("-jar");
+        command.add(jar.toString());
+
+        URI uri = URI.create("http://localhost:" + port + "/api/chess/analyze");
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            // Poll until the server answers; connection refused just means not listening yet
+            while (!send(client, uri, bodies.get(0))) {
+                if (!process.isAlive()) throw new IOException(jar + " exited with status " + process.exitValue());
+                if (System.nanoTime() - start > TIMEOUT_NANOS) throw new IOException(jar + " did not answer within 60 s");
+                Thread.sleep(2);
+            }
+            long startupNanos = System.nanoTime() - start;
+            long rssFirst = residentKb(process.pid());
+            for (byte[] body : bodies) {
+                if (!send(client, uri, body)) throw new IOException(jar + " failed a recorded request");
+            }
+            return new Sample(startupNanos, rssFirst, residentKb(process.pid()));
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static boolean send(HttpClient client, URI uri, byte[] body) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // VmRSS from /proc in kB, or -1 where it is not available
+    private static long residentKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) return Long.parseLong(line.replaceAll("[^0-9]", ""));
+            }
+        } catch (IOException | NumberFormatException e) {
+            // not Linux
+        }
+        return -1;
+    }
+
+    private static String megabytes(long kb) {
+        return kb < 0 ? "n/a" : String.format("%.1f", kb / 1024.0);
+    }
+}
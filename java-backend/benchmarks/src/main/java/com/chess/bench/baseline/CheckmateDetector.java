@@ -1,10 +1,15 @@
-package com.chess.rules;
+package com.chess.bench.baseline;
 
-import com.chess.model.Piece;
-import com.chess.model.Position;
 import java.util.List;
 import java.util.ArrayList;
 
+/**
+ * The list rules as the project first shipped them: Piece and Position with string types
+ * and teams, the per-piece *Rules classes and this detector. Kept unchanged, apart from
+ * the package and the two helpers below being public, as the independent reference
+ * RulesFuzzer checks MoveGenerator against. It knows no castling, en passant or
+ * promotion; don't fix it to match the engine, or it stops being a second opinion.
+ */
 public class CheckmateDetector {
 
     // --- 1. IS KING IN CHECK? ---
@@ -80,7 +85,7 @@ public class CheckmateDetector {
         }
     }
 
-    private static List<Position> getAllPotentialMoves(Piece p, List<Piece> boardState) {
+    public static List<Position> getAllPotentialMoves(Piece p, List<Piece> boardState) {
         Position from = p.getPosition();
         String team = p.getTeam();
         switch (p.getType().toLowerCase()) {
@@ -94,7 +99,7 @@ public class CheckmateDetector {
         }
     }
 
-    private static List<Piece> simulateMove(List<Piece> original, Position from, Position to) {
+    public static List<Piece> simulateMove(List<Piece> original, Position from, Position to) {
         List<Piece> sim = new ArrayList<>();
         for (Piece p : original) {
             sim.add(new Piece(new Position(p.getPosition().getX(), p.getPosition().getY()), 
@@ -1,7 +1,5 @@
-package com.chess.rules;
+package com.chess.bench.baseline;
 
-import com.chess.model.Position;
-import com.chess.model.Piece;
 import java.util.List;
 
 public class GeneralRules {
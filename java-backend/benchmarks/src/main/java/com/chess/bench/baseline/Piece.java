@@ -1,6 +1,4 @@
-package com.chess.model;
-
-import com.fasterxml.jackson.annotation.JsonProperty;
+package com.chess.bench.baseline;
 
 public class Piece {
     private Position position;
@@ -1,4 +1,4 @@
-package com.chess.model;
+package com.chess.bench.baseline;
 
 public class Position {
     private int x;
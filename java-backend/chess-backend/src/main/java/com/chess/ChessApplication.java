@@ -0,0 +1,112 @@
+package com.chess;
+
+import com.chess.book.OpeningBook;
+import com.chess.cache.AnalysisCache;
+import com.chess.metrics.AnalysisMetrics;
+import com.chess.service.AnalysisService;
+import com.chess.tablebase.EndgameTablebase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.context.annotation.Bean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@SpringBootApplication
+@EnableScheduling
+public class ChessApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ChessApplication.class, args);
+    }
+
+    // --- CORE COMPONENTS ---
+    // The analysis pipeline lives in chess-core, which has no Spring dependency, so its
+    // pieces are wired here with the same property names and defaults
+
+    @Bean
+    public AnalysisCache analysisCache(@Value("${chess.analysis-cache.entries:65536}") int entries,
+                                       @Value("${chess.analysis-cache.policy:two-way}") String policy) {
+        return new AnalysisCache(entries, policy);
+    }
+
+    @Bean
+    public OpeningBook openingBook(@Value("${chess.book.path:}") String path,
+                                   @Value("${chess.book.keys:}") String keysPath) {
+        return new OpeningBook(path, keysPath);
+    }
+
+    @Bean
+    public EndgameTablebase endgameTablebase(@Value("${chess.tablebase.path:}") String path) {
+        return new EndgameTablebase(path);
+    }
+
+    @Bean
+    public AnalysisMetrics analysisMetrics(@Value("${chess.metrics.enabled:true}") boolean enabled) {
+        return new AnalysisMetrics(enabled);
+    }
+
+    @Bean
+    public AnalysisService analysisService(AnalysisCache analysisCache, OpeningBook openingBook,
+                                           EndgameTablebase tablebase, AnalysisMetrics metrics) {
+        return new AnalysisService(analysisCache, openingBook, tablebase, metrics);
+    }
+
+    // --- EXECUTORS ---
+
+    // Bounded pool for batch analysis; its parallelism caps the CPU a batch can take
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool batchAnalysisPool(@Value("${chess.batch.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    // Helper threads for parallel engine searches, shared by all requests (see ParallelSearch)
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService searchHelperPool(@Value("${chess.search.max-threads:0}") int maxThreads) {
+        int threads = maxThreads > 0 ? maxThreads : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(Math.max(1, threads - 1), runnable -> {
+            Thread thread = new Thread(runnable, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Platform threads for CPU-bound rules and search work when requests run on virtual
+    // threads, so long computations cannot occupy the virtual-thread carriers (see CpuWork)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService cpuWorkPool(@Value("${chess.cpu.threads:0}") int threads) {
+        return Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "cpu-work");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Writes game event streams to spectators (see GameEvents); sends never run on request
+    // threads. A write stalled on a slow client holds one thread until its socket times out.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService gameEventPool(@Value("${chess.games.event-threads:16}") int threads) {
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "game-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public WebMvcConfigurer corsConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addCorsMappings(CorsRegistry registry) {
+                registry.addMapping("/api/**")
+                    .allowedOrigins("*")
+                    .allowedMethods("GET", "POST", "PUT", "DELETE")
+                    .allowedHeaders("*");
+            }
+        };
+    }
+}
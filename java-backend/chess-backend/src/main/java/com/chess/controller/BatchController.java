@@ -0,0 +1,120 @@
+package com.chess.controller;
+
+import com.chess.dto.AnalyzeRequest;
+import com.chess.dto.MateRequest;
+import com.chess.service.AnalysisService;
+import com.chess.service.MateService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Batch forms of /analyze, for bots and replay tooling, and of /mate, for puzzle validation.
+ * The body is a JSON array or NDJSON stream of requests; items are evaluated in
+ * parallel on the bounded batch pool and results are streamed back in input order as NDJSON.
+ * Only a sliding window of in-flight items is held, so batch size does not affect memory.
+ */
+@RestController
+@RequestMapping("/api/chess")
+@CrossOrigin(origins = "*")
+public class BatchController {
+
+    private static final int FLUSH_EVERY = 64;
+
+    private final AnalysisService analysisService;
+    private final MateService mateService;
+    private final ForkJoinPool batchAnalysisPool;
+    private final ObjectMapper objectMapper;
+    private final int window;
+
+    public BatchController(AnalysisService analysisService, MateService mateService, ForkJoinPool batchAnalysisPool,
+                           ObjectMapper objectMapper, @Value("${chess.batch.window:0}") int window) {
+        this.analysisService = analysisService;
+        this.mateService = mateService;
+        this.batchAnalysisPool = batchAnalysisPool;
+        this.objectMapper = objectMapper;
+        this.window = window > 0 ? window : batchAnalysisPool.getParallelism() * 4;
+    }
+
+    @PostMapping(value = "/analyze/batch", produces = "application/x-ndjson")
+    public StreamingResponseBody analyzeBatch(InputStream body) {
+        return output -> stream(body, output, AnalyzeRequest.class, analysisService::analyze);
+    }
+
+    @PostMapping(value = "/mate/batch", produces = "application/x-ndjson")
+    public StreamingResponseBody mateBatch(InputStream body) {
+        return output -> stream(body, output, MateRequest.class, mateService::solve);
+    }
+
+    private <T> void stream(InputStream body, OutputStream output, Class<T> type,
+                            Function<T, Map<String, Object>> work) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        ArrayDeque<CompletableFuture<Map<String, Object>>> inFlight = new ArrayDeque<>();
+        int index = 0;
+        int written = 0;
+
+        try (MappingIterator<T> items = objectMapper.readerFor(type).readValues(body)) {
+            while (true) {
+                CompletableFuture<Map<String, Object>> result;
+                try {
+                    if (!items.hasNextValue()) break;
+                    T request = items.nextValue();
+                    int itemIndex = index;
+                    result = CompletableFuture.supplyAsync(() -> withIndex(itemIndex, work.apply(request)), batchAnalysisPool)
+                            .exceptionally(e -> error(itemIndex, e.toString()));
+                } catch (JsonMappingException e) {
+                    // Well-formed JSON of the wrong shape (say "totalMoves":"x"): the iterator
+                    // resynchronizes past the item, so only this item fails
+                    result = CompletableFuture.completedFuture(error(index, "Invalid batch item: " + e.getOriginalMessage()));
+                } catch (IOException e) {
+                    // Malformed JSON cannot be resynchronized: report it as the last item
+                    inFlight.add(CompletableFuture.completedFuture(error(index, "Malformed batch item: " + e.getMessage())));
+                    break;
+                }
+                index++;
+                inFlight.add(result);
+
+                if (inFlight.size() >= window) {
+                    writeLine(writer, output, inFlight.poll().join());
+                    if (++written % FLUSH_EVERY == 0) output.flush();
+                }
+            }
+        } finally {
+            // Drain in order; on client disconnect the remaining writes fail fast
+            while (!inFlight.isEmpty()) {
+                writeLine(writer, output, inFlight.poll().join());
+            }
+            output.flush();
+        }
+    }
+
+    private static Map<String, Object> withIndex(int index, Map<String, Object> result) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("index", index);
+        line.putAll(result);
+        return line;
+    }
+
+    private static Map<String, Object> error(int index, String message) {
+        return withIndex(index, Map.of("valid", false, "error", message));
+    }
+
+    private static void writeLine(ObjectWriter writer, OutputStream output, Map<String, Object> line) throws IOException {
+        writer.writeValue(output, line);
+        output.write('\n');
+    }
+}
@@ -0,0 +1,71 @@
+package com.chess.controller;
+
+import com.chess.cache.AnalysisCache;
+import com.chess.dto.AnalyzeRequest;
+import com.chess.dto.BestMoveRequest;
+import com.chess.dto.MateRequest;
+import com.chess.dto.PositionRequest;
+import com.chess.metrics.AnalysisMetrics;
+import com.chess.service.AnalysisService;
+import com.chess.service.CpuWork;
+import com.chess.service.MateService;
+import com.chess.service.SearchService;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/chess")
+@CrossOrigin(origins = "*")
+public class ChessController {
+
+    private final AnalysisService analysisService;
+    private final AnalysisCache analysisCache;
+    private final SearchService searchService;
+    private final MateService mateService;
+    private final CpuWork cpuWork;
+    private final AnalysisMetrics analysisMetrics;
+
+    public ChessController(AnalysisService analysisService, AnalysisCache analysisCache, SearchService searchService,
+                           MateService mateService, CpuWork cpuWork, AnalysisMetrics analysisMetrics) {
+        this.analysisService = analysisService;
+        this.analysisCache = analysisCache;
+        this.searchService = searchService;
+        this.mateService = mateService;
+        this.cpuWork = cpuWork;
+        this.analysisMetrics = analysisMetrics;
+    }
+
+    @PostMapping("/analyze")
+    public Map<String, Object> analyzeMove(@RequestBody AnalyzeRequest request) {
+        return cpuWork.run(() -> analysisService.analyze(request));
+    }
+
+    // Whole-position legal move map for the side to move, in one round trip
+    @PostMapping("/moves")
+    public Map<String, Object> legalMoves(@RequestBody PositionRequest request) {
+        return cpuWork.run(() -> analysisService.legalMoves(request));
+    }
+
+    // Engine move for the side to move within the requested time / node / depth budget
+    @PostMapping("/bestmove")
+    public Map<String, Object> bestMove(@RequestBody BestMoveRequest request) {
+        return cpuWork.run(() -> searchService.bestMove(request));
+    }
+
+    // Forced mate for the side to move within maxMoves, or proof that there is none
+    @PostMapping("/mate")
+    public Map<String, Object> mate(@RequestBody MateRequest request) {
+        return cpuWork.run(() -> mateService.solve(request));
+    }
+
+    @GetMapping("/cache/stats")
+    public Map<String, Object> cacheStats() {
+        return analysisCache.getStats();
+    }
+
+    // Per-phase latency histograms and counters for /analyze (see AnalysisMetrics)
+    @GetMapping("/metrics")
+    public Map<String, Object> metrics() {
+        return analysisMetrics.getStats();
+    }
+}
@@ -0,0 +1,93 @@
+package com.chess.controller;
+
+import com.chess.cache.AnalysisCache;
+import com.chess.dto.CreateGameRequest;
+import com.chess.dto.GameState;
+import com.chess.dto.MoveRequest;
+import com.chess.dto.MoveResult;
+import com.chess.dto.PieceMoves;
+import com.chess.game.Game;
+import com.chess.game.GameStore;
+import com.chess.model.BitboardPosition;
+import com.chess.model.Fen;
+import com.chess.service.CpuWork;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.List;
+
+/**
+ * Stateful alternative to /analyze: the server keeps each game's position, so clients
+ * create a game once and then send only their moves. Spectators follow a game through
+ * its event stream.
+ */
+@RestController
+@RequestMapping("/api/chess/games")
+@CrossOrigin(origins = "*")
+public class GameController {
+
+    private final GameStore gameStore;
+    private final AnalysisCache analysisCache;
+    private final CpuWork cpuWork;
+
+    public GameController(GameStore gameStore, AnalysisCache analysisCache, CpuWork cpuWork) {
+        this.gameStore = gameStore;
+        this.analysisCache = analysisCache;
+        this.cpuWork = cpuWork;
+    }
+
+    @PostMapping
+    public GameState createGame(@RequestBody(required = false) CreateGameRequest request) {
+        String fen = request == null || request.fen() == null ? Fen.START : request.fen();
+        BitboardPosition position;
+        try {
+            position = Fen.parse(fen);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        GameState state = gameStore.create(position).snapshot();
+        gameStore.awaitDurable();
+        return state;
+    }
+
+    @GetMapping("/{id}")
+    public GameState getGame(@PathVariable String id) {
+        Game game = gameStore.get(id);
+        game.touch();
+        return game.snapshot();
+    }
+
+    // Server-sent events: "state" once, then "move" per move and "end" when the game is removed
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable String id) {
+        return gameStore.subscribe(id);
+    }
+
+    @GetMapping("/{id}/moves")
+    public List<PieceMoves> legalMoves(@PathVariable String id) {
+        Game game = gameStore.get(id);
+        return cpuWork.run(() -> game.legalMoves(analysisCache));
+    }
+
+    @PostMapping("/{id}/moves")
+    public MoveResult playMove(@PathVariable String id, @RequestBody MoveRequest request) {
+        Game game = gameStore.get(id);
+        int move;
+        try {
+            move = request.toMove();
+        } catch (IllegalArgumentException e) {
+            return new MoveResult(false, e.getMessage(), game.snapshot());
+        }
+        MoveResult result = cpuWork.run(() -> game.play(move, analysisCache));
+        // Outside the game lock and off the CPU pool, so waiting for the disk blocks no one else
+        if (result.valid()) gameStore.awaitDurable();
+        return result;
+    }
+
+    @DeleteMapping("/{id}")
+    public void deleteGame(@PathVariable String id) {
+        gameStore.remove(id);
+    }
+}
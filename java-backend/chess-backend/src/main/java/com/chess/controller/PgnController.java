@@ -0,0 +1,61 @@
+package com.chess.controller;
+
+import com.chess.pgn.PgnPipeline;
+import com.chess.pgn.PgnStats;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Bulk re-validation of archived games. The body is a PGN file of any size, read as a
+ * stream; games are replayed in parallel on the batch pool and one NDJSON result per game
+ * is streamed back in input order, followed by a final {"stats": ...} line.
+ */
+@RestController
+@RequestMapping("/api/chess")
+@CrossOrigin(origins = "*")
+public class PgnController {
+
+    private static final int FLUSH_EVERY = 64;
+
+    private final PgnPipeline pipeline;
+    private final ObjectMapper objectMapper;
+
+    public PgnController(ForkJoinPool batchAnalysisPool, ObjectMapper objectMapper,
+                         @Value("${chess.batch.window:0}") int window,
+                         @Value("${chess.pgn.max-game-chars:1048576}") int maxGameChars) {
+        this.objectMapper = objectMapper;
+        this.pipeline = new PgnPipeline(batchAnalysisPool,
+                window > 0 ? window : batchAnalysisPool.getParallelism() * 4, maxGameChars);
+    }
+
+    @PostMapping(value = "/pgn/validate", produces = "application/x-ndjson")
+    public StreamingResponseBody validatePgn(InputStream body) {
+        return output -> stream(body, output);
+    }
+
+    private void stream(InputStream body, OutputStream output) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        int[] written = {0};
+        PgnStats stats = pipeline.run(Channels.newChannel(body), result -> {
+            writeLine(writer, output, result);
+            if (++written[0] % FLUSH_EVERY == 0) output.flush();
+        });
+        writeLine(writer, output, Map.of("stats", stats));
+        output.flush();
+    }
+
+    private static void writeLine(ObjectWriter writer, OutputStream output, Object line) throws IOException {
+        writer.writeValue(output, line);
+        output.write('\n');
+    }
+}
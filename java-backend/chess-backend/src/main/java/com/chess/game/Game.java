@@ -0,0 +1,139 @@
+package com.chess.game;
+
+import com.chess.cache.AnalysisCache;
+import com.chess.dto.GameState;
+import com.chess.dto.MoveEvent;
+import com.chess.dto.MoveResult;
+import com.chess.dto.PieceMoves;
+import com.chess.journal.GameRecord;
+import com.chess.model.BitboardPosition;
+import com.chess.model.Fen;
+import com.chess.model.Move;
+import com.chess.model.Uci;
+import com.chess.rules.Bitboards;
+import com.chess.rules.CheckmateDetector;
+import com.chess.rules.MoveGenerator;
+import com.chess.rules.PositionAnalysis;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One server-side game. The position is kept and updated in place move by move,
+ * so a move request only carries the move itself. All mutation is synchronized on
+ * the game, which serializes concurrent moves against the same game; each accepted
+ * move is reported to the listener inside that lock, so listeners see moves in order.
+ * The starting FEN and the moves played are kept, so the game can be journaled and rebuilt.
+ */
+public class Game {
+
+    public enum Status { ACTIVE, CHECKMATE, STALEMATE, DRAW }
+
+    // Called inside the game's lock with the encoded move and the hash it led to
+    public interface MoveListener {
+        void moved(int move, long hash, MoveEvent event);
+    }
+
+    private final String id;
+    private final BitboardPosition position;
+    private final MoveGenerator generator = new MoveGenerator();
+    private final MoveListener listener;
+    private final String startFen;
+    private int[] moves = new int[32];
+    private int ply;
+    private Status status = Status.ACTIVE;
+    private String winningTeam;
+    private String drawReason;
+    private String lastMove;
+    private boolean check;
+    private volatile long lastActivity = System.currentTimeMillis();
+
+    public Game(String id, BitboardPosition position, MoveListener listener) {
+        this.id = id;
+        this.position = position;
+        this.listener = listener;
+        this.startFen = Fen.toFen(position);
+    }
+
+    // Validates and plays a move for the side to move, returning the outcome and resulting state
+    public synchronized MoveResult play(int move, AnalysisCache analysisCache) {
+        String error = apply(move, analysisCache, true);
+        return new MoveResult(error == null, error, snapshot());
+    }
+
+    // Replays a move from a journal snapshot on startup, without notifying the listener
+    public synchronized boolean restore(int move, AnalysisCache analysisCache) {
+        return apply(move, analysisCache, false) == null;
+    }
+
+    // Replays a logged move: moves the game already has are skipped, and the move must
+    // lead to the logged position
+    public synchronized boolean restore(int ply, int move, long hash, AnalysisCache analysisCache) {
+        if (ply <= this.ply) return true;
+        return ply == this.ply + 1 && apply(move, analysisCache, false) == null && position.getHash() == hash;
+    }
+
+    // Returns null if the move was accepted, else the reason it was rejected
+    private String apply(int move, AnalysisCache analysisCache, boolean notify) {
+        touch();
+        if (status != Status.ACTIVE) return "Game is over";
+
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int side = position.getSideToMove();
+        if (position.teamAt(from) != side) return "Not your turn";
+
+        PositionAnalysis moverAnalysis = analysisCache.analyze(position, side, generator);
+        if ((moverAnalysis.getLegalMoves(from) & Bitboards.bit(to)) == 0) return "Illegal move";
+
+        move = position.encodeMove(from, to, Move.promotion(move));
+        position.makeMove(move);
+        if (ply == moves.length) moves = Arrays.copyOf(moves, ply * 2);
+        moves[ply++] = move;
+        lastMove = Uci.toUci(move);
+
+        PositionAnalysis opponentAnalysis = analysisCache.analyze(position, side ^ 1, generator);
+        check = opponentAnalysis.isCheck();
+        drawReason = null;
+        if (opponentAnalysis.isCheckmate()) {
+            status = Status.CHECKMATE;
+            winningTeam = BitboardPosition.teamName(side);
+        } else if (opponentAnalysis.isStalemate()) {
+            status = Status.STALEMATE;
+        } else {
+            // A claimable draw (threefold repetition, fifty moves) is only reported and the
+            // game goes on; seventy-five moves and fivefold repetition end it
+            drawReason = CheckmateDetector.drawReason(position);
+            if (CheckmateDetector.isAutomaticDraw(drawReason)) status = Status.DRAW;
+        }
+        if (notify) {
+            listener.moved(move, position.getHash(), new MoveEvent(ply, lastMove, BitboardPosition.teamName(side ^ 1),
+                    status.name(), check, winningTeam, drawReason));
+        }
+        return null;
+    }
+
+    // Legal move map of the side to move (empty once the game is over)
+    public synchronized List<PieceMoves> legalMoves(AnalysisCache analysisCache) {
+        touch();
+        if (status != Status.ACTIVE) return List.of();
+        PositionAnalysis analysis = analysisCache.analyze(position, position.getSideToMove(), generator);
+        return PieceMoves.listOf(analysis, position);
+    }
+
+    public synchronized GameState snapshot() {
+        return new GameState(id, Fen.toFen(position), BitboardPosition.teamName(position.getSideToMove()),
+                ply, status.name(), check, status == Status.CHECKMATE, status == Status.STALEMATE,
+                winningTeam, drawReason, lastMove);
+    }
+
+    public synchronized GameRecord record() {
+        return new GameRecord(id, startFen, Arrays.copyOf(moves, ply));
+    }
+
+    public void touch() {
+        lastActivity = System.currentTimeMillis();
+    }
+
+    public String getId() { return id; }
+    public long getLastActivity() { return lastActivity; }
+}
@@ -0,0 +1,193 @@
+package com.chess.game;
+
+import com.chess.dto.MoveEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-sent event streams for spectators of a game. A subscriber first receives a
+ * "state" event with the full game state, then one "move" event per move and an "end"
+ * event when the game is removed or evicted. Move events can repeat what the state
+ * already contains; clients skip those with a ply not above the state's ply.
+ *
+ * Each move is serialized to one complete SSE frame once and the same bytes are queued
+ * for every subscriber. Every subscriber has its own bounded queue, drained on the event
+ * pool a few frames at a time, so publishing never writes to a connection and one slow
+ * spectator never delays the others. A subscriber that falls chess.games.events-queue
+ * frames behind, or whose send fails, is dropped and its stream completed; it can
+ * reconnect and start again from the current state.
+ */
+@Component
+public class GameEvents {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GameEvents.class);
+
+    // Frames one drain task writes before yielding the thread to other subscribers
+    private static final int BATCH = 16;
+
+    private final ConcurrentHashMap<String, Channel> channels = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final ExecutorService pool;
+    private final long timeoutMillis;
+    private final int queueLimit;
+
+    public GameEvents(ObjectMapper objectMapper, @Qualifier("gameEventPool") ExecutorService pool,
+                      @Value("${chess.games.events-timeout-ms:1800000}") long timeoutMillis,
+                      @Value("${chess.games.events-queue:256}") int queueLimit) {
+        this.objectMapper = objectMapper;
+        this.pool = pool;
+        this.timeoutMillis = timeoutMillis;
+        this.queueLimit = Math.max(2, queueLimit);
+    }
+
+    // Opens a stream that starts with the current state of the game
+    public SseEmitter subscribe(Game game) {
+        Channel channel = channels.computeIfAbsent(game.getId(), id -> new Channel());
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(channel, emitter);
+        emitter.onCompletion(subscriber::closed);
+        emitter.onTimeout(subscriber::closed);
+        emitter.onError(e -> subscriber.closed());
+
+        // Registered before the snapshot is taken, so no move falls between the two; moves
+        // queued meanwhile follow the state frame and are at or below its ply
+        channel.subscribers.add(subscriber);
+        subscriber.start(frame("state", game.snapshot()));
+        return emitter;
+    }
+
+    // Called by the game inside its lock; only serializes and queues
+    public void publish(String gameId, MoveEvent event) {
+        Channel channel = channels.get(gameId);
+        if (channel == null) return;
+        Set<DataWithMediaType> frame = frame("move", event);
+        for (Subscriber subscriber : channel.subscribers) subscriber.offer(frame);
+    }
+
+    // Sends "end" and completes every stream of a removed game
+    public void close(String gameId) {
+        Channel channel = channels.remove(gameId);
+        if (channel == null) return;
+        Set<DataWithMediaType> frame = frame("end", gameId);
+        for (Subscriber subscriber : channel.subscribers) subscriber.finish(frame);
+    }
+
+    public int subscriberCount(String gameId) {
+        Channel channel = channels.get(gameId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    // --- HELPERS ---
+
+    // One whole "event: ...\ndata: ...\n\n" frame, written as-is to the response
+    private Set<DataWithMediaType> frame(String name, Object data) {
+        try {
+            String text = "event: " + name + "\ndata: " + objectMapper.writeValueAsString(data) + "\n\n";
+            return Set.of(new DataWithMediaType(text.getBytes(StandardCharsets.UTF_8), MediaType.TEXT_EVENT_STREAM));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Channel {
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    }
+
+    // One spectator stream: its pending frames and the state of its drain task. Only the
+    // drain task touches the emitter, so a blocked write stalls this subscriber alone.
+    private final class Subscriber {
+        private final Channel channel;
+        private final SseEmitter emitter;
+        private final BlockingDeque<Set<DataWithMediaType>> frames = new LinkedBlockingDeque<>(queueLimit);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Nothing is written before the state frame is queued
+        private volatile boolean started;
+        // Complete the stream once the queue is empty (the game ended)
+        private volatile boolean finishing;
+        // Stop writing and complete the stream (overflow, failed send)
+        private volatile boolean dropped;
+        // The stream is already over (completed, timed out or failed)
+        private volatile boolean closed;
+
+        Subscriber(Channel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+        }
+
+        void start(Set<DataWithMediaType> state) {
+            if (!frames.offerFirst(state)) drop();
+            started = true;
+            schedule();
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            if (!frames.offerLast(frame)) drop();
+            else schedule();
+        }
+
+        void finish(Set<DataWithMediaType> end) {
+            finishing = true;
+            offer(end);
+        }
+
+        void closed() {
+            closed = true;
+            channel.subscribers.remove(this);
+            frames.clear();
+        }
+
+        // Fell too far behind: forget its frames and let the drain task complete the stream
+        private void drop() {
+            dropped = true;
+            channel.subscribers.remove(this);
+            frames.clear();
+            schedule();
+        }
+
+        private void schedule() {
+            if ((started || dropped) && draining.compareAndSet(false, true)) pool.execute(this::drain);
+        }
+
+        private void drain() {
+            try {
+                for (int sent = 0; sent < BATCH && !dropped && !closed; sent++) {
+                    Set<DataWithMediaType> frame = frames.poll();
+                    if (frame == null) break;
+                    try {
+                        emitter.send(frame);
+                    } catch (IOException | IllegalStateException e) {
+                        LOG.debug("Dropping spectator after a failed send", e);
+                        dropped = true;
+                        channel.subscribers.remove(this);
+                    }
+                }
+                if (!closed && (dropped || (finishing && frames.isEmpty()))) {
+                    closed = true;
+                    frames.clear();
+                    emitter.complete();
+                }
+            } finally {
+                draining.set(false);
+            }
+            // More frames (or a frame queued after the last poll, or a drop while this task
+            // ran) go in a fresh task, behind the other subscribers' work
+            if (!closed && (dropped || !frames.isEmpty())) schedule();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.chess.game;
+
+import com.chess.cache.AnalysisCache;
+import com.chess.journal.GameRecord;
+import com.chess.journal.MoveJournal;
+import com.chess.model.BitboardPosition;
+import com.chess.model.Fen;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent in-memory store of active games. Games idle for longer than the
+ * configured timeout are evicted by a scheduled sweep, which also ends their event streams.
+ * With a move journal, every change is logged and the games are rebuilt from it on startup.
+ */
+@Component
+public class GameStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GameStore.class);
+
+    private final ConcurrentHashMap<String, Game> games = new ConcurrentHashMap<>();
+    private final long idleTimeoutMillis;
+    private final int maxGames;
+    private final GameEvents gameEvents;
+    private final MoveJournal journal;
+    private final AnalysisCache analysisCache;
+
+    public GameStore(@Value("${chess.games.idle-timeout-minutes:30}") long idleTimeoutMinutes,
+                     @Value("${chess.games.max-games:100000}") int maxGames,
+                     GameEvents gameEvents, MoveJournal journal, AnalysisCache analysisCache) {
+        this.idleTimeoutMillis = idleTimeoutMinutes * 60_000L;
+        this.maxGames = maxGames;
+        this.gameEvents = gameEvents;
+        this.journal = journal;
+        this.analysisCache = analysisCache;
+        if (journal.isEnabled()) restore();
+    }
+
+    public Game create(BitboardPosition position) {
+        if (games.size() >= maxGames) {
+            evictIdle();
+            if (games.size() >= maxGames) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many active games");
+            }
+        }
+        Game game = newGame(UUID.randomUUID().toString(), position);
+        // Visible before it is logged, so a snapshot cannot miss a game whose creation it replaces
+        games.put(game.getId(), game);
+        journal.created(game.getId(), Fen.toFen(position), position.getHash());
+        return game;
+    }
+
+    public Game get(String id) {
+        Game game = games.get(id);
+        if (game == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown game " + id);
+        return game;
+    }
+
+    // Registers a spectator stream. A game removed while it registered has its stream ended
+    // at once; otherwise the stream would stay open until its timeout.
+    public SseEmitter subscribe(String id) {
+        SseEmitter emitter = gameEvents.subscribe(get(id));
+        if (!games.containsKey(id)) gameEvents.close(id);
+        return emitter;
+    }
+
+    public void remove(String id) {
+        if (games.remove(id) == null) return;
+        journal.removed(id);
+        gameEvents.close(id);
+    }
+
+    public int size() {
+        return games.size();
+    }
+
+    // Blocks until the changes logged so far are on disk (see MoveJournal)
+    public void awaitDurable() {
+        journal.awaitDurable();
+    }
+
+    @Scheduled(fixedDelayString = "${chess.games.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        for (Game game : games.values()) {
+            // Removed before its streams are closed, so a spectator registering meanwhile sees it gone
+            if (game.getLastActivity() >= cutoff || !games.remove(game.getId(), game)) continue;
+            journal.removed(game.getId());
+            gameEvents.close(game.getId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chess.journal.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        journal.snapshot(this::records);
+    }
+
+    // --- HELPERS ---
+
+    private Game newGame(String id, BitboardPosition position) {
+        return new Game(id, position, (move, hash, event) -> {
+            journal.moved(id, event.ply(), move, hash);
+            gameEvents.publish(id, event);
+        });
+    }
+
+    private List<GameRecord> records() {
+        List<GameRecord> records = new ArrayList<>(games.size());
+        for (Game game : games.values()) records.add(game.record());
+        return records;
+    }
+
+    // Rebuilds the journaled games, then snapshots them so the replayed segments can go
+    private void restore() {
+        long start = System.nanoTime();
+        int[] moves = new int[1];
+        journal.replay(new MoveJournal.Replay() {
+            @Override
+            public void game(GameRecord record) {
+                Game game = newGame(record.id(), Fen.parse(record.fen()));
+                for (int move : record.moves()) {
+                    if (!game.restore(move, analysisCache)) {
+                        LOG.warn("Dropping journaled game {}: snapshot move does not replay", record.id());
+                        return;
+                    }
+                    moves[0]++;
+                }
+                games.put(record.id(), game);
+            }
+
+            @Override
+            public void created(String id, String fen) {
+                games.computeIfAbsent(id, key -> newGame(key, Fen.parse(fen)));
+            }
+
+            @Override
+            public void moved(String id, int ply, int move, long hash) {
+                Game game = games.get(id);
+                if (game == null) return;
+                if (!game.restore(ply, move, hash, analysisCache)) {
+                    LOG.warn("Dropping journaled game {}: move {} does not replay", id, ply);
+                    games.remove(id);
+                    return;
+                }
+                moves[0]++;
+            }
+
+            @Override
+            public void removed(String id) {
+                games.remove(id);
+            }
+        });
+        snapshot();
+        LOG.info("Restored {} games ({} moves) from the move journal in {} ms",
+                games.size(), moves[0], (System.nanoTime() - start) / 1_000_000);
+    }
+}
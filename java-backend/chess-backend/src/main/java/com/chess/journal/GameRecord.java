@@ -0,0 +1,7 @@
+package com.chess.journal;
+
+/**
+ * One live game as stored in a journal snapshot: its starting position and every move
+ * played since, so replaying it rebuilds the repetition history too.
+ */
+public record GameRecord(String id, String fen, int[] moves) {}
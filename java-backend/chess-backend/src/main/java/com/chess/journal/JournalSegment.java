@@ -0,0 +1,166 @@
+package com.chess.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * One fixed-size, memory-mapped file of the move log, filled with 40-byte records:
+ *
+ *   0  type (MOVE, CREATE, REMOVE, FEN)   1  FEN records following a CREATE
+ *   4  ply                                8  move (CREATE: CRC-32 of the FEN)
+ *   12 CRC-32 of bytes 0-11 and 16-39     16 game id (UUID, two longs)
+ *   32 position hash after the record
+ *
+ * A CREATE is followed by the starting FEN in FEN records, 39 text bytes each. Files
+ * are mapped at full size up front, so an unwritten record reads as type 0; reading
+ * stops there or at the first record whose checksum fails (a write torn by a crash).
+ */
+final class JournalSegment {
+
+    static final int RECORD_BYTES = 40;
+    static final String PREFIX = "moves-";
+    static final String EXTENSION = ".log";
+
+    static final byte MOVE = 1;
+    static final byte CREATE = 2;
+    static final byte REMOVE = 3;
+    static final byte FEN = 4;
+
+    private static final int FEN_BYTES = RECORD_BYTES - 1;
+
+    final int index;
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES).order(ByteOrder.BIG_ENDIAN);
+    private final CRC32 crc = new CRC32();
+    private int offset;
+
+    private JournalSegment(int index, MappedByteBuffer buffer) {
+        this.index = index;
+        this.buffer = buffer;
+    }
+
+    static Path path(Path directory, int index) {
+        return directory.resolve(String.format("%s%08d%s", PREFIX, index, EXTENSION));
+    }
+
+    // Creates a new segment of the given size for appending
+    static JournalSegment create(Path directory, int index, long bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path(directory, index), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = bytes - bytes % RECORD_BYTES;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            return new JournalSegment(index, buffer);
+        }
+    }
+
+    // --- WRITING (callers hold the journal lock) ---
+
+    boolean hasRoom(int records) {
+        return offset + (long) records * RECORD_BYTES <= buffer.capacity();
+    }
+
+    boolean isEmpty() {
+        return offset == 0;
+    }
+
+    void append(byte type, UUID id, int ply, int move, long hash) {
+        append(type, 0, id, ply, move, hash);
+    }
+
+    // CREATE record followed by the FEN records; the caller checks hasRoom(recordsFor(fen))
+    void appendCreate(UUID id, String fen, long hash) {
+        byte[] text = fen.getBytes(StandardCharsets.US_ASCII);
+        crc.reset();
+        crc.update(text);
+        append(CREATE, chunks(text.length), id, 0, (int) crc.getValue(), hash);
+        for (int start = 0; start < text.length; start += FEN_BYTES) {
+            Arrays.fill(record.array(), (byte) 0);
+            record.clear();
+            record.put(FEN).put(text, start, Math.min(FEN_BYTES, text.length - start));
+            buffer.put(offset, record.array(), 0, RECORD_BYTES);
+            offset += RECORD_BYTES;
+        }
+    }
+
+    static int recordsFor(String fen) {
+        return 1 + chunks(fen.length());
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    private void append(byte type, int extra, UUID id, int ply, int move, long hash) {
+        record.clear();
+        record.put(0, type).put(1, (byte) extra).putShort(2, (short) 0).putInt(4, ply).putInt(8, move)
+                .putLong(16, id.getMostSignificantBits()).putLong(24, id.getLeastSignificantBits()).putLong(32, hash);
+        record.putInt(12, checksum(record));
+        buffer.put(offset, record.array(), 0, RECORD_BYTES);
+        offset += RECORD_BYTES;
+    }
+
+    // --- READING ---
+
+    // Feeds every intact record of a segment file to the replay, in order
+    static void read(Path file, MoveJournal.Replay replay) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.BIG_ENDIAN);
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES).order(ByteOrder.BIG_ENDIAN);
+        CRC32 crc = new CRC32();
+        int limit = buffer.capacity() - buffer.capacity() % RECORD_BYTES;
+        int offset = 0;
+        while (offset < limit) {
+            buffer.get(offset, record.array(), 0, RECORD_BYTES);
+            byte type = record.get(0);
+            if (type != MOVE && type != CREATE && type != REMOVE) return;
+            if (record.getInt(12) != checksum(record)) return;
+            offset += RECORD_BYTES;
+
+            String id = new UUID(record.getLong(16), record.getLong(24)).toString();
+            switch (type) {
+                case MOVE -> replay.moved(id, record.getInt(4), record.getInt(8), record.getLong(32));
+                case REMOVE -> replay.removed(id);
+                default -> {
+                    int count = record.get(1) & 0xFF;
+                    if (offset + count * RECORD_BYTES > limit) return;
+                    byte[] text = new byte[count * FEN_BYTES];
+                    int length = 0;
+                    for (int i = 0; i < count; i++, offset += RECORD_BYTES) {
+                        if (buffer.get(offset) != FEN) return;
+                        buffer.get(offset + 1, text, i * FEN_BYTES, FEN_BYTES);
+                    }
+                    while (length < text.length && text[length] != 0) length++;
+                    crc.reset();
+                    crc.update(text, 0, length);
+                    if ((int) crc.getValue() != record.getInt(8)) return;
+                    replay.created(id, new String(text, 0, length, StandardCharsets.US_ASCII));
+                }
+            }
+        }
+    }
+
+    // --- HELPERS ---
+
+    private static int chunks(int length) {
+        return (length + FEN_BYTES - 1) / FEN_BYTES;
+    }
+
+    private static int checksum(ByteBuffer record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, 12);
+        crc.update(record.array(), 16, RECORD_BYTES - 16);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,233 @@
+package com.chess.journal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Append-only log of server-side games in chess.journal.path (empty = no journal), so
+ * they survive a restart. Every created game, accepted move and removal is appended as
+ * a fixed-width record to the current memory-mapped segment (see JournalSegment); the
+ * write lands in the page cache, which already survives a crash of the process.
+ *
+ * Durability against power loss is a group commit: one flusher thread forces the
+ * segment whenever records are pending, so every move appended while a force is in
+ * progress is covered by the next one. With chess.journal.sync a request waits in
+ * awaitDurable() until its records are on disk; without it, it returns at once.
+ *
+ * Snapshots list every live game with its moves and replace all earlier segments. On
+ * startup the latest snapshot and the segments after it are replayed, and appends go to
+ * a fresh segment.
+ */
+@Component
+public class MoveJournal implements AutoCloseable {
+
+    // Receives the journal contents on startup, in order
+    public interface Replay {
+        void game(GameRecord game);
+        void created(String id, String fen);
+        void moved(String id, int ply, int move, long hash);
+        void removed(String id);
+    }
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean sync;
+    private final long flushIntervalMillis;
+    private final int snapshotNumber;
+    private final Thread flusher;
+
+    // Guarded by this
+    private JournalSegment segment;
+    private long appended;
+    private long durable;
+    private long snapshotAppended = -1;
+    private boolean closed;
+
+    public MoveJournal(@Value("${chess.journal.path:}") String path,
+                       @Value("${chess.journal.segment-mb:64}") int segmentMb,
+                       @Value("${chess.journal.sync:true}") boolean sync,
+                       @Value("${chess.journal.flush-interval-ms:0}") long flushIntervalMillis) {
+        this.segmentBytes = Math.max(1, segmentMb) * 1024L * 1024L;
+        this.sync = sync;
+        this.flushIntervalMillis = flushIntervalMillis;
+        if (path == null || path.isBlank()) {
+            directory = null;
+            snapshotNumber = -1;
+            flusher = null;
+            return;
+        }
+        directory = Path.of(path.trim());
+        try {
+            Files.createDirectories(directory);
+            int[] snapshots = SnapshotFile.numbers(directory, SnapshotFile.PREFIX, SnapshotFile.EXTENSION);
+            int[] segments = SnapshotFile.numbers(directory, JournalSegment.PREFIX, JournalSegment.EXTENSION);
+            snapshotNumber = snapshots.length == 0 ? -1 : snapshots[snapshots.length - 1];
+            int next = Math.max(snapshotNumber, segments.length == 0 ? 0 : segments[segments.length - 1] + 1);
+            segment = JournalSegment.create(directory, next, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open move journal " + path, e);
+        }
+        flusher = new Thread(this::flushLoop, "journal-flush");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    // --- 1. REPLAY ---
+
+    // Feeds the latest snapshot, then every older segment record after it; call before appending
+    public void replay(Replay replay) {
+        if (!isEnabled()) return;
+        try {
+            if (snapshotNumber >= 0) {
+                for (GameRecord game : SnapshotFile.read(SnapshotFile.path(directory, snapshotNumber))) replay.game(game);
+            }
+            for (int index : SnapshotFile.numbers(directory, JournalSegment.PREFIX, JournalSegment.EXTENSION)) {
+                if (index >= Math.max(0, snapshotNumber) && index < segment.index) {
+                    JournalSegment.read(JournalSegment.path(directory, index), replay);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replay move journal " + directory, e);
+        }
+    }
+
+    // --- 2. APPEND ---
+
+    public synchronized void created(String gameId, String fen, long hash) {
+        if (!isEnabled()) return;
+        int records = JournalSegment.recordsFor(fen);
+        ensureRoom(records);
+        segment.appendCreate(UUID.fromString(gameId), fen, hash);
+        appended += records;
+        notifyAll();
+    }
+
+    public synchronized void moved(String gameId, int ply, int move, long hash) {
+        append(JournalSegment.MOVE, gameId, ply, move, hash);
+    }
+
+    public synchronized void removed(String gameId) {
+        append(JournalSegment.REMOVE, gameId, 0, 0, 0L);
+    }
+
+    private void append(byte type, String gameId, int ply, int move, long hash) {
+        if (!isEnabled()) return;
+        ensureRoom(1);
+        segment.append(type, UUID.fromString(gameId), ply, move, hash);
+        appended++;
+        notifyAll();
+    }
+
+    private void ensureRoom(int records) {
+        if (segment.hasRoom(records)) return;
+        try {
+            roll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start a new journal segment", e);
+        }
+    }
+
+    // The full segment is forced here, so the flusher only ever forces the current one
+    private void roll() throws IOException {
+        segment.force();
+        segment = JournalSegment.create(directory, segment.index + 1, segmentBytes);
+    }
+
+    // --- 3. GROUP COMMIT ---
+
+    // Waits until every record appended so far is on disk (no-op unless chess.journal.sync)
+    public void awaitDurable() {
+        if (!isEnabled() || !sync) return;
+        synchronized (this) {
+            long target = appended;
+            try {
+                while (durable < target && !closed) wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void flushLoop() {
+        try {
+            while (true) {
+                JournalSegment target;
+                long count;
+                synchronized (this) {
+                    while (durable == appended && !closed) wait();
+                    if (closed) return;
+                    target = segment;
+                    count = appended;
+                }
+                target.force();
+                synchronized (this) {
+                    durable = count;
+                    notifyAll();
+                }
+                if (flushIntervalMillis > 0) Thread.sleep(flushIntervalMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // --- 4. SNAPSHOTS ---
+
+    // Starts a new segment, writes the games and deletes what the snapshot replaces.
+    // Games are read after the switch, so a record in the new segment may repeat what the
+    // snapshot holds; replay skips those by ply. Not safe to call concurrently.
+    public void snapshot(Supplier<List<GameRecord>> games) {
+        if (!isEnabled()) return;
+        int first;
+        long mark;
+        synchronized (this) {
+            if (closed || appended == snapshotAppended) return;
+            try {
+                if (!segment.isEmpty()) roll();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot start a new journal segment", e);
+            }
+            first = segment.index;
+            mark = appended;
+        }
+        try {
+            SnapshotFile.write(directory, first, games.get());
+            for (int index : SnapshotFile.numbers(directory, JournalSegment.PREFIX, JournalSegment.EXTENSION)) {
+                if (index < first) Files.deleteIfExists(JournalSegment.path(directory, index));
+            }
+            for (int index : SnapshotFile.numbers(directory, SnapshotFile.PREFIX, SnapshotFile.EXTENSION)) {
+                if (index < first) Files.deleteIfExists(SnapshotFile.path(directory, index));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write journal snapshot", e);
+        }
+        synchronized (this) {
+            snapshotAppended = mark;
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (!isEnabled()) return;
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        flusher.join();
+        synchronized (this) {
+            segment.force();
+            durable = appended;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.chess.journal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Snapshot of every live game, named after the first log segment it does not cover
+ * ("snapshot-00000007.snap" replaces segments 0-6). Layout: magic, game count, then per
+ * game its id, starting FEN, move count and moves.
+ */
+final class SnapshotFile {
+
+    static final String PREFIX = "snapshot-";
+    static final String EXTENSION = ".snap";
+
+    private static final long MAGIC = 0x4348455353534E31L; // "CHESSSN1"
+
+    private SnapshotFile() {}
+
+    static Path path(Path directory, int firstSegment) {
+        return directory.resolve(String.format("%s%08d%s", PREFIX, firstSegment, EXTENSION));
+    }
+
+    // Written and synced under a temporary name, then moved into place
+    static void write(Path directory, int firstSegment, List<GameRecord> games) throws IOException {
+        Path target = path(directory, firstSegment);
+        Path partial = directory.resolve(target.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(partial.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeLong(MAGIC);
+            out.writeInt(games.size());
+            for (GameRecord game : games) {
+                out.writeUTF(game.id());
+                out.writeUTF(game.fen());
+                out.writeInt(game.moves().length);
+                for (int move : game.moves()) out.writeInt(move);
+            }
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static List<GameRecord> read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readLong() != MAGIC) throw new IOException("Not a journal snapshot: " + file);
+            int count = in.readInt();
+            List<GameRecord> games = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = in.readUTF();
+                String fen = in.readUTF();
+                int[] moves = new int[in.readInt()];
+                for (int j = 0; j < moves.length; j++) moves[j] = in.readInt();
+                games.add(new GameRecord(id, fen, moves));
+            }
+            return games;
+        }
+    }
+
+    // Segment number in a snapshot or segment file name, or -1 for other files
+    static int number(Path file, String prefix, String extension) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(prefix) || !name.endsWith(extension)) return -1;
+        try {
+            return Integer.parseInt(name.substring(prefix.length(), name.length() - extension.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    static int[] numbers(Path directory, String prefix, String extension) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToInt(file -> number(file, prefix, extension)).filter(n -> n >= 0).sorted().toArray();
+        }
+    }
+}
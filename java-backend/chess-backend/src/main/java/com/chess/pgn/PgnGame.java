@@ -0,0 +1,9 @@
+package com.chess.pgn;
+
+import java.util.Map;
+
+/**
+ * One game as cut from a PGN stream: its tag pairs and raw movetext. A game longer than
+ * the reader's limit keeps no movetext and carries an error instead.
+ */
+public record PgnGame(long index, Map<String, String> tags, String movetext, String error) {}
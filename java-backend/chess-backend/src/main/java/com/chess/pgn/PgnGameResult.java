@@ -0,0 +1,10 @@
+package com.chess.pgn;
+
+/**
+ * Outcome of replaying one game. For an illegal game, illegalPly is the 1-based ply of
+ * the first move that could not be played and illegalMove its SAN; plies counts the
+ * moves played before it. status is the final position's state: "checkmate",
+ * "stalemate" or "ongoing".
+ */
+public record PgnGameResult(long index, String white, String black, String result, boolean valid, int plies,
+                            Integer illegalPly, String illegalMove, String status, String finalFen, String error) {}
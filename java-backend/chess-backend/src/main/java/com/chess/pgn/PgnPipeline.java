@@ -0,0 +1,109 @@
+package com.chess.pgn;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Bulk PGN validation: the calling thread reads games off the stream while the pool
+ * replays them, and results come back in input order. At most `window` games are in
+ * flight, so memory stays constant whatever the size of the input.
+ *
+ * Also runnable from the command line, writing one NDJSON result per game to stdout and
+ * the totals to stderr:
+ *
+ *   java -cp target/benchmarks.jar com.chess.pgn.PgnPipeline games.pgn [threads]
+ */
+public final class PgnPipeline {
+
+    // Receives results in input order, on the thread that called run()
+    @FunctionalInterface
+    public interface ResultSink {
+        void accept(PgnGameResult result) throws IOException;
+    }
+
+    private final Executor pool;
+    private final int window;
+    private final int maxGameChars;
+    private final ThreadLocal<PgnReplay> replays = ThreadLocal.withInitial(PgnReplay::new);
+
+    public PgnPipeline(Executor pool, int window, int maxGameChars) {
+        this.pool = pool;
+        this.window = Math.max(1, window);
+        this.maxGameChars = maxGameChars;
+    }
+
+    public PgnStats run(ReadableByteChannel input, ResultSink sink) throws IOException {
+        long start = System.nanoTime();
+        PgnReader reader = new PgnReader(input, maxGameChars);
+        ArrayDeque<CompletableFuture<PgnGameResult>> inFlight = new ArrayDeque<>();
+        long games = 0;
+        long valid = 0;
+        long plies = 0;
+
+        try {
+            PgnGame game;
+            while ((game = reader.next()) != null) {
+                PgnGame current = game;
+                inFlight.add(CompletableFuture.supplyAsync(() -> replays.get().replay(current), pool)
+                        .exceptionally(e -> failed(current, e)));
+                if (inFlight.size() >= window) {
+                    PgnGameResult result = inFlight.poll().join();
+                    games++;
+                    if (result.valid()) valid++;
+                    plies += result.plies();
+                    sink.accept(result);
+                }
+            }
+        } finally {
+            // Drain in order; on a failed write the remaining results fail fast
+            while (!inFlight.isEmpty()) {
+                PgnGameResult result = inFlight.poll().join();
+                games++;
+                if (result.valid()) valid++;
+                plies += result.plies();
+                sink.accept(result);
+            }
+        }
+        return PgnStats.of(games, valid, plies, reader.bytesRead(), System.nanoTime() - start);
+    }
+
+    private static PgnGameResult failed(PgnGame game, Throwable e) {
+        return new PgnGameResult(game.index(), game.tags().get("White"), game.tags().get("Black"),
+                game.tags().get("Result"), false, 0, null, null, null, null, e.toString());
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: PgnPipeline <file.pgn> [threads]");
+            System.exit(2);
+        }
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        ObjectWriter writer = new ObjectMapper().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        OutputStream output = new BufferedOutputStream(System.out, 1 << 16);
+
+        PgnStats stats;
+        try (FileChannel input = FileChannel.open(Path.of(args[0]), StandardOpenOption.READ)) {
+            stats = new PgnPipeline(pool, threads * 4, 1 << 20).run(input, result -> {
+                writer.writeValue(output, result);
+                output.write('\n');
+            });
+        } finally {
+            output.flush();
+            pool.shutdown();
+        }
+        System.err.println(writer.writeValueAsString(stats));
+    }
+}
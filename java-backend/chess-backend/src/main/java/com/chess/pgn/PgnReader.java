@@ -0,0 +1,148 @@
+package com.chess.pgn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cuts a PGN stream of any size into games, one at a time. Bytes come from the channel
+ * through one fixed buffer and are decoded line by line, so memory is bounded by the
+ * buffers plus the largest game allowed (maxGameChars, tag lines and movetext together);
+ * a longer game is skipped and returned with an error rather than buffered.
+ *
+ * A game ends where the next tag section starts (a line beginning with '[' after some
+ * movetext, outside a {comment}) or at the end of the stream.
+ */
+public final class PgnReader {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final ReadableByteChannel channel;
+    private final int maxGameChars;
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_BYTES);
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_BYTES);
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final StringBuilder line = new StringBuilder(256);
+
+    private boolean endOfInput;
+    private boolean drained;
+    private long bytesRead;
+    private long gameIndex;
+    // First line of the next game, already read while finishing the previous one
+    private String pending;
+
+    public PgnReader(ReadableByteChannel channel, int maxGameChars) {
+        this.channel = channel;
+        this.maxGameChars = maxGameChars;
+        chars.flip();
+    }
+
+    public long bytesRead() {
+        return bytesRead;
+    }
+
+    // Next game, or null at the end of the stream
+    public PgnGame next() throws IOException {
+        Map<String, String> tags = new LinkedHashMap<>();
+        StringBuilder movetext = new StringBuilder();
+        boolean inMovetext = false;
+        boolean oversized = false;
+        int commentDepth = 0;
+        long size = 0;
+
+        String text;
+        while ((text = pending != null ? pending : readLine()) != null) {
+            pending = null;
+            String trimmed = text.strip();
+            if (commentDepth == 0 && trimmed.startsWith("[")) {
+                if (inMovetext) {
+                    pending = text;
+                    break;
+                }
+                size += trimmed.length() + 1;
+                if (size > maxGameChars) oversized = true;
+                if (oversized) tags.clear();
+                else parseTag(trimmed, tags);
+                continue;
+            }
+            if (trimmed.isEmpty() || trimmed.startsWith("%")) continue;
+
+            inMovetext = true;
+            commentDepth = commentDepth(trimmed, commentDepth);
+            size += trimmed.length() + 1;
+            if (size > maxGameChars) oversized = true;
+            if (oversized) movetext.setLength(0);
+            else movetext.append(trimmed).append('\n');
+        }
+
+        if (!inMovetext && !oversized && tags.isEmpty()) return null;
+        long index = gameIndex++;
+        if (oversized) return new PgnGame(index, tags, "", "Game exceeds " + maxGameChars + " characters");
+        return new PgnGame(index, tags, movetext.toString(), null);
+    }
+
+    // --- HELPERS ---
+
+    // [Name "Value"]; malformed tag lines are ignored
+    private static void parseTag(String text, Map<String, String> tags) {
+        int space = text.indexOf(' ');
+        int open = text.indexOf('"');
+        int close = text.lastIndexOf('"');
+        if (space < 2 || open < 0 || close <= open) return;
+        tags.put(text.substring(1, space), text.substring(open + 1, close).replace("\\\"", "\"").replace("\\\\", "\\"));
+    }
+
+    // Brace comments may span lines; tag-looking lines inside one are movetext
+    private static int commentDepth(String text, int depth) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '{') depth = 1;
+            else if (c == '}') depth = 0;
+            else if (c == ';' && depth == 0) break;
+        }
+        return depth;
+    }
+
+    private String readLine() throws IOException {
+        line.setLength(0);
+        while (true) {
+            while (chars.hasRemaining()) {
+                char c = chars.get();
+                if (c == '\n') return line.toString();
+                if (c != '\r' && line.length() <= maxGameChars) line.append(c);
+            }
+            if (!fill()) return line.length() > 0 ? line.toString() : null;
+        }
+    }
+
+    // Decodes the next block of input into the char buffer; false at the end of the stream
+    private boolean fill() throws IOException {
+        if (drained) return false;
+        chars.clear();
+        while (true) {
+            if (!endOfInput) {
+                int read = channel.read(bytes);
+                if (read < 0) endOfInput = true;
+                else bytesRead += read;
+            }
+            bytes.flip();
+            decoder.decode(bytes, chars, endOfInput);
+            if (endOfInput) {
+                decoder.flush(chars);
+                drained = true;
+            }
+            bytes.compact();
+            if (chars.position() > 0 || endOfInput) break;
+        }
+        chars.flip();
+        return chars.hasRemaining();
+    }
+}
@@ -0,0 +1,130 @@
+package com.chess.pgn;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Fen;
+import com.chess.model.MoveList;
+import com.chess.model.San;
+import com.chess.rules.CheckmateDetector;
+import com.chess.rules.MoveGenerator;
+
+/**
+ * Replays one game's movetext against the rules. Comments, variations, NAGs, move numbers
+ * and the result token are skipped; every other token must be a legal SAN move in the
+ * current position. Games with a FEN tag start from that position.
+ */
+public final class PgnReplay {
+
+    private final MoveGenerator generator = new MoveGenerator();
+    private final MoveList legalMoves = new MoveList();
+
+    public PgnGameResult replay(PgnGame game) {
+        String white = game.tags().get("White");
+        String black = game.tags().get("Black");
+        String result = game.tags().get("Result");
+        if (game.error() != null) {
+            return new PgnGameResult(game.index(), white, black, result, false, 0, null, null, null, null, game.error());
+        }
+
+        BitboardPosition position;
+        try {
+            String fen = game.tags().get("FEN");
+            position = Fen.parse(fen != null ? fen : Fen.START);
+        } catch (RuntimeException e) {
+            return new PgnGameResult(game.index(), white, black, result, false, 0, null, null, null, null, e.getMessage());
+        }
+
+        String text = game.movetext();
+        int plies = 0;
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+
+            // --- 1. SKIP NON-MOVES ---
+            if (Character.isWhitespace(c) || c == ')') {
+                i++;
+                continue;
+            }
+            if (c == '{') {
+                i = skipPast(text, i, '}');
+                continue;
+            }
+            if (c == ';') {
+                i = skipPast(text, i, '\n');
+                continue;
+            }
+            if (c == '(') {
+                i = skipVariation(text, i);
+                continue;
+            }
+
+            int end = i;
+            while (end < text.length() && !Character.isWhitespace(text.charAt(end)) && "{};()".indexOf(text.charAt(end)) < 0) end++;
+            String token = text.substring(i, end);
+            i = end;
+            if (token.startsWith("$")) continue;
+            if (isResult(token)) break;
+            token = stripMoveNumber(token);
+            if (token.isEmpty()) continue;
+
+            // --- 2. PLAY THE MOVE ---
+            generator.reset(position, position.getSideToMove());
+            legalMoves.clear();
+            generator.generate(legalMoves);
+            int move = San.parse(token, position, legalMoves);
+            if (move == 0) {
+                return new PgnGameResult(game.index(), white, black, result, false, plies, plies + 1, token,
+                        status(position), Fen.toFen(position), null);
+            }
+            position.makeMove(move);
+            plies++;
+        }
+
+        return new PgnGameResult(game.index(), white, black, result, true, plies, null, null,
+                status(position), Fen.toFen(position), null);
+    }
+
+    // --- HELPERS ---
+
+    private String status(BitboardPosition position) {
+        generator.reset(position, position.getSideToMove());
+        if (generator.isCheckmate()) return "checkmate";
+        if (generator.isStalemate()) return "stalemate";
+        String drawReason = CheckmateDetector.drawReason(position);
+        return drawReason != null ? drawReason : "ongoing";
+    }
+
+    private static int skipPast(String text, int from, char close) {
+        int end = text.indexOf(close, from + 1);
+        return end < 0 ? text.length() : end + 1;
+    }
+
+    // Recursive annotation variations may nest and contain comments with parentheses
+    private static int skipVariation(String text, int from) {
+        int depth = 0;
+        int i = from;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '{') {
+                i = skipPast(text, i, '}');
+                continue;
+            }
+            if (c == '(') depth++;
+            else if (c == ')' && --depth == 0) return i + 1;
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isResult(String token) {
+        return token.equals("1-0") || token.equals("0-1") || token.equals("1/2-1/2") || token.equals("*");
+    }
+
+    // "12.", "12...", "12.e4" and "12...e5" carry a move number in front of the move
+    private static String stripMoveNumber(String token) {
+        int i = 0;
+        while (i < token.length() && Character.isDigit(token.charAt(i))) i++;
+        if (i == 0 || i == token.length() || token.charAt(i) != '.') return i == token.length() ? "" : token;
+        while (i < token.length() && token.charAt(i) == '.') i++;
+        return token.substring(i);
+    }
+}
@@ -0,0 +1,14 @@
+package com.chess.pgn;
+
+/**
+ * Totals and throughput for one pipeline run.
+ */
+public record PgnStats(long games, long validGames, long invalidGames, long plies, long bytes, long elapsedMs,
+                       double gamesPerSecond, double pliesPerSecond, double megabytesPerSecond) {
+
+    static PgnStats of(long games, long validGames, long plies, long bytes, long elapsedNanos) {
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+        return new PgnStats(games, validGames, games - validGames, plies, bytes, elapsedNanos / 1_000_000,
+                games / seconds, plies / seconds, bytes / seconds / (1024 * 1024));
+    }
+}
@@ -0,0 +1,44 @@
+package com.chess.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Runs CPU-bound request work (move analysis, mate detection, engine search).
+ *
+ * With spring.threads.virtual.enabled=true on a Java 21+ runtime, requests are handled on
+ * virtual threads, which share a small set of carrier threads; a long computation would
+ * keep its carrier busy and delay every other request's I/O. In that mode the work is
+ * handed to the bounded cpuWorkPool and the virtual thread just waits for it. On platform
+ * request threads (including Java 17, where Spring ignores the property) the work runs
+ * inline, as before.
+ */
+@Component
+public class CpuWork {
+
+    private final ExecutorService cpuWorkPool;
+    private final boolean offload;
+
+    public CpuWork(@Qualifier("cpuWorkPool") ExecutorService cpuWorkPool,
+                   Environment environment) {
+        this.cpuWorkPool = cpuWorkPool;
+        // The property alone is not enough: Spring only switches to virtual threads on Java 21+
+        this.offload = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public <T> T run(Supplier<T> work) {
+        if (!offload) return work.get();
+        try {
+            return CompletableFuture.supplyAsync(work, cpuWorkPool).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.chess.service;
+
+import com.chess.dto.MateRequest;
+import com.chess.engine.MateResult;
+import com.chess.engine.MateSolver;
+import com.chess.model.BitboardPosition;
+import com.chess.model.Uci;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Mate-in-N verification behind /mate and /mate/batch (see MateSolver). Solvers and their
+ * tables are reused across requests: each call borrows an idle one, so there are only as
+ * many as there were concurrent calls. Every solve is time-bounded, clamped to
+ * chess.mate.max-time-ms.
+ */
+@Service
+public class MateService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MateService.class);
+
+    private final ConcurrentLinkedQueue<MateSolver> idleSolvers = new ConcurrentLinkedQueue<>();
+    private final int hashMb;
+    private final long defaultTimeMs;
+    private final long maxTimeMs;
+
+    public MateService(@Value("${chess.mate.hash-mb:8}") int hashMb,
+                       @Value("${chess.mate.default-time-ms:1000}") long defaultTimeMs,
+                       @Value("${chess.mate.max-time-ms:10000}") long maxTimeMs) {
+        this.hashMb = hashMb;
+        this.defaultTimeMs = defaultTimeMs;
+        this.maxTimeMs = maxTimeMs;
+    }
+
+    public Map<String, Object> solve(MateRequest request) {
+        try {
+            if (request.maxMoves() < 1 || request.maxMoves() > MateSolver.MAX_MOVES) {
+                throw new IllegalArgumentException("maxMoves must be between 1 and " + MateSolver.MAX_MOVES);
+            }
+            BitboardPosition position = request.toPosition();
+            long timeMs = request.timeMs() > 0 ? Math.min(request.timeMs(), maxTimeMs) : defaultTimeMs;
+
+            MateSolver solver = idleSolvers.poll();
+            if (solver == null) solver = new MateSolver(hashMb);
+            MateResult result;
+            try {
+                result = solver.solve(position, request.maxMoves(), request.checksOnly(), request.nodes(), timeMs);
+            } finally {
+                idleSolvers.add(solver);
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", result.outcome().getName());
+            boolean mate = result.outcome() == MateResult.Outcome.MATE;
+            response.put("mateIn", mate ? result.mateIn() : null);
+            // Moves proven to hold no mate: all of them for no-mate, the finished iterations when unknown
+            response.put("noMateWithin", mate ? null : result.mateIn());
+            List<String> line = new ArrayList<>();
+            for (int move : result.line()) line.add(Uci.toUci(move));
+            response.put("line", line);
+            response.put("nodes", result.nodes());
+            response.put("timeMs", result.elapsedNanos() / 1_000_000);
+            response.put("nps", result.nodesPerSecond());
+            return response;
+
+        } catch (Exception e) {
+            LOG.debug("solve failed", e);
+            String message = e.getMessage() != null ? e.getMessage() : e.toString();
+            return Map.of("error", message);
+        }
+    }
+}
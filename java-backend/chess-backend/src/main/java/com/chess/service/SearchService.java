@@ -0,0 +1,159 @@
+package com.chess.service;
+
+import com.chess.book.BookMove;
+import com.chess.book.OpeningBook;
+import com.chess.dto.BestMoveRequest;
+import com.chess.engine.Evaluator;
+import com.chess.engine.ParallelSearch;
+import com.chess.engine.PieceSquareEvaluator;
+import com.chess.engine.SearchLimits;
+import com.chess.engine.SearchResult;
+import com.chess.engine.TranspositionTable;
+import com.chess.engine.nnue.NnueEvaluator;
+import com.chess.engine.nnue.NnueNetwork;
+import com.chess.model.BitboardPosition;
+import com.chess.model.Move;
+import com.chess.model.Square;
+import com.chess.model.Uci;
+import com.chess.tablebase.EndgameTablebase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Computer opponent behind /bestmove. Every request searches on the calling thread, plus
+ * helper threads when it asks for more than one (Lazy SMP, see ParallelSearch). All
+ * searches share one lock-free transposition table; each one stops at its own deadline,
+ * and the time budget is clamped to chess.search.max-time-ms. While the position is in
+ * the opening book, the highest-weight book move is played instead, without searching;
+ * in an endgame covered by a table, the table's best move is. Leaves are scored by the
+ * NNUE network at chess.search.nnue-path when one is configured, else by piece-square tables.
+ */
+@Service
+public class SearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchService.class);
+
+    private final TranspositionTable table;
+    private final OpeningBook openingBook;
+    private final EndgameTablebase tablebase;
+    private final ParallelSearch search;
+    private final long defaultTimeMs;
+    private final long maxTimeMs;
+    private final int defaultThreads;
+    private final int maxThreads;
+
+    public SearchService(@Value("${chess.search.default-time-ms:1000}") long defaultTimeMs,
+                         @Value("${chess.search.max-time-ms:10000}") long maxTimeMs,
+                         @Value("${chess.search.threads:1}") int defaultThreads,
+                         @Value("${chess.search.max-threads:0}") int maxThreads,
+                         @Value("${chess.search.hash-mb:64}") int hashMb,
+                         @Value("${chess.search.nnue-path:}") String nnuePath,
+                         @Qualifier("searchHelperPool") ExecutorService searchHelperPool,
+                         OpeningBook openingBook,
+                         EndgameTablebase tablebase) {
+        this.openingBook = openingBook;
+        this.tablebase = tablebase;
+        this.defaultTimeMs = defaultTimeMs;
+        this.maxTimeMs = maxTimeMs;
+        this.defaultThreads = Math.max(1, defaultThreads);
+        this.maxThreads = maxThreads > 0 ? maxThreads : Runtime.getRuntime().availableProcessors();
+        this.table = new TranspositionTable(hashMb);
+        this.search = new ParallelSearch(evaluator(nnuePath), table, searchHelperPool, Math.max(0, this.maxThreads - 1));
+    }
+
+    public Map<String, Object> bestMove(BestMoveRequest request) {
+        try {
+            BitboardPosition position = request.toPosition();
+            List<BookMove> bookMoves = openingBook.lookup(position);
+            if (!bookMoves.isEmpty()) return bookResponse(bookMoves);
+            int tablebaseMove = tablebase.bestMove(position);
+            if (tablebaseMove != 0) return tablebaseResponse(position, tablebaseMove);
+
+            // A search is always time-bounded: a depth or node limit alone still gets the server cap
+            long timeMs = request.timeMs() > 0 ? Math.min(request.timeMs(), maxTimeMs)
+                        : request.depth() > 0 || request.nodes() > 0 ? maxTimeMs : defaultTimeMs;
+            int threads = Math.min(request.threads() > 0 ? request.threads() : defaultThreads, maxThreads);
+            ParallelSearch.Outcome outcome = search.search(position,
+                    new SearchLimits(timeMs, request.nodes(), request.depth()), threads);
+            SearchResult result = outcome.result();
+
+            Map<String, Object> response = moveResponse(result.bestMove());
+            response.put("score", result.isMateScore() ? null : result.score());
+            response.put("mate", result.isMateScore() ? result.mateIn() : null);
+            response.put("depth", result.depth());
+            response.put("nodes", result.nodes());
+            response.put("timeMs", result.elapsedNanos() / 1_000_000);
+            response.put("nps", result.nodesPerSecond());
+            response.put("threads", outcome.threads());
+            response.put("hashfull", table.hashfull());
+
+            List<String> pv = new ArrayList<>();
+            for (int pvMove : result.pv()) pv.add(Uci.toUci(pvMove));
+            response.put("pv", pv);
+            response.put("source", "search");
+            return response;
+
+        } catch (Exception e) {
+            LOG.debug("bestMove failed", e);
+            String message = e.getMessage() != null ? e.getMessage() : e.toString();
+            return Map.of("error", message);
+        }
+    }
+
+    // --- HELPERS ---
+
+    private static Evaluator evaluator(String nnuePath) {
+        if (nnuePath.isBlank()) return new PieceSquareEvaluator();
+        try {
+            NnueEvaluator evaluator = new NnueEvaluator(NnueNetwork.load(Path.of(nnuePath)));
+            LOG.info("Loaded NNUE network {} ({} kernels)", nnuePath, evaluator.getKernels().name());
+            return evaluator;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load NNUE network " + nnuePath, e);
+        }
+    }
+
+    private static Map<String, Object> moveResponse(int move) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("bestMove", move == 0 ? null : Uci.toUci(move));
+        if (move != 0) {
+            response.put("from", Square.of(Move.from(move)));
+            response.put("to", Square.of(Move.to(move)));
+            int promotion = Move.promotion(move);
+            response.put("promotion", promotion == 0 ? null : BitboardPosition.typeName(promotion));
+        }
+        return response;
+    }
+
+    private Map<String, Object> tablebaseResponse(BitboardPosition position, int move) {
+        Map<String, Object> response = moveResponse(move);
+        response.put("source", "tablebase");
+        response.put("tablebase", tablebase.probe(position));
+        response.put("pv", List.of(Uci.toUci(move)));
+        return response;
+    }
+
+    private static Map<String, Object> bookResponse(List<BookMove> bookMoves) {
+        BookMove best = bookMoves.get(0);
+        Map<String, Object> response = new HashMap<>();
+        response.put("bestMove", best.move());
+        response.put("from", best.from());
+        response.put("to", best.to());
+        response.put("promotion", best.promotion());
+        response.put("source", "book");
+        response.put("bookMoves", bookMoves);
+        response.put("pv", List.of(best.move()));
+        return response;
+    }
+}
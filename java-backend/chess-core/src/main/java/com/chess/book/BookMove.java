@@ -0,0 +1,21 @@
+package com.chess.book;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Move;
+import com.chess.model.Square;
+import com.chess.model.Uci;
+
+/**
+ * One book move for a position, with its Polyglot weight (higher is played more often).
+ */
+public record BookMove(String move, Square from, Square to, String promotion, int weight) {
+
+    public static BookMove of(int move, int weight) {
+        int promotion = Move.promotion(move);
+        return new BookMove(Uci.toUci(move),
+                Square.of(Move.from(move)),
+                Square.of(Move.to(move)),
+                promotion == 0 ? null : BitboardPosition.typeName(promotion),
+                weight);
+    }
+}
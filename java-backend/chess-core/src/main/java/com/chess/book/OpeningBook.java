@@ -0,0 +1,56 @@
+package com.chess.book;
+
+import com.chess.model.BitboardPosition;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The configured Polyglot book (chess.book.path), mapped once at startup and shared by
+ * every request; lookups only read the mapping, so they are safe to run concurrently.
+ * With no path configured the book is disabled and every lookup is empty. So is a book
+ * whose Polyglot key table (chess.book.keys, see PolyglotKey) is missing or fails its
+ * check: without the right keys every lookup would miss, so the server starts without
+ * the book and says why.
+ */
+public class OpeningBook {
+
+    private static final System.Logger LOG = System.getLogger(OpeningBook.class.getName());
+
+    private final PolyglotBook book;
+
+    public OpeningBook(String path) {
+        this(path, "");
+    }
+
+    public OpeningBook(String path, String keysPath) {
+        if (path == null || path.isBlank()) {
+            this.book = null;
+            return;
+        }
+        PolyglotKey keys;
+        try {
+            keys = PolyglotKey.load(keysPath);
+        } catch (IllegalStateException e) {
+            LOG.log(System.Logger.Level.WARNING, "Opening book {0} disabled: {1}", path, e.getMessage());
+            this.book = null;
+            return;
+        }
+        try {
+            this.book = PolyglotBook.open(Path.of(path.trim()), keys);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open opening book " + path, e);
+        }
+        LOG.log(System.Logger.Level.INFO, "Opening book {0}: {1} entries", path, book.size());
+    }
+
+    public boolean isEnabled() {
+        return book != null;
+    }
+
+    // Book moves for the side to move, highest weight first
+    public List<BookMove> lookup(BitboardPosition position) {
+        return book == null ? List.of() : book.lookup(position);
+    }
+}
@@ -0,0 +1,143 @@
+package com.chess.book;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.MoveList;
+import com.chess.rules.MoveGenerator;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Read-only Polyglot .bin opening book, memory-mapped rather than read onto the heap.
+ * The file is a sorted array of 16-byte big-endian entries (key u64, move u16,
+ * weight u16, learn u32); a lookup binary-searches it in place. A read-only mapping is
+ * backed directly by the OS page cache, so every JVM on the host that maps the same
+ * book shares one copy of it in memory.
+ *
+ * A single MappedByteBuffer is limited to 2 GB, so the file is mapped in 1 GB segments;
+ * entries never straddle a segment because the segment size is a multiple of 16.
+ */
+public final class PolyglotBook {
+
+    private static final int ENTRY_BYTES = 16;
+    private static final int SEGMENT_SHIFT = 30;
+    private static final int ENTRIES_PER_SEGMENT_SHIFT = SEGMENT_SHIFT - 4;
+    private static final long ENTRY_MASK = (1L << ENTRIES_PER_SEGMENT_SHIFT) - 1;
+
+    private final Path path;
+    private final MappedByteBuffer[] segments;
+    private final long entries;
+    private final PolyglotKey keys;
+
+    private PolyglotBook(Path path, MappedByteBuffer[] segments, long entries, PolyglotKey keys) {
+        this.path = path;
+        this.segments = segments;
+        this.entries = entries;
+        this.keys = keys;
+    }
+
+    public static PolyglotBook open(Path path, PolyglotKey keys) throws IOException {
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % ENTRY_BYTES != 0) {
+                throw new IOException("Not a Polyglot book (size " + size + " is not a multiple of 16): " + path);
+            }
+            int count = (int) ((size + (1L << SEGMENT_SHIFT) - 1) >>> SEGMENT_SHIFT);
+            MappedByteBuffer[] segments = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i << SEGMENT_SHIFT;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(1L << SEGMENT_SHIFT, size - offset));
+                segments[i].order(ByteOrder.BIG_ENDIAN);
+            }
+            return new PolyglotBook(path, segments, size / ENTRY_BYTES, keys);
+        }
+    }
+
+    public Path path() { return path; }
+    public long size() { return entries; }
+
+    // Legal book moves for the side to move, highest weight first; empty when out of book
+    public List<BookMove> lookup(BitboardPosition position) {
+        long key = keys.of(position);
+        List<BookMove> found = new ArrayList<>();
+        MoveList legal = null;
+
+        for (long i = lowerBound(key); i < entries && key(i) == key; i++) {
+            int move = decode(position, moveBits(i));
+            if (move == 0) continue;
+            if (legal == null) {
+                legal = new MoveList();
+                new MoveGenerator(position, position.getSideToMove()).generate(legal);
+            }
+            // Skips entries that are illegal here, e.g. from a Polyglot key collision
+            if (contains(legal, move)) found.add(BookMove.of(move, weight(i)));
+        }
+        found.sort(Comparator.comparingInt(BookMove::weight).reversed());
+        return found;
+    }
+
+    // --- 1. ENTRY ACCESS ---
+
+    private long key(long index) {
+        return segment(index).getLong(offset(index));
+    }
+
+    private int moveBits(long index) {
+        return segment(index).getShort(offset(index) + 8) & 0xFFFF;
+    }
+
+    private int weight(long index) {
+        return segment(index).getShort(offset(index) + 10) & 0xFFFF;
+    }
+
+    private MappedByteBuffer segment(long index) {
+        return segments[(int) (index >>> ENTRIES_PER_SEGMENT_SHIFT)];
+    }
+
+    private static int offset(long index) {
+        return (int) (index & ENTRY_MASK) * ENTRY_BYTES;
+    }
+
+    // First entry whose key is not below the target (keys compare unsigned)
+    private long lowerBound(long key) {
+        long low = 0;
+        long high = entries;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(key(mid), key) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // --- 2. MOVE DECODING ---
+
+    // Polyglot move: to file bits 0-2, to row 3-5, from file 6-8, from row 9-11, promotion
+    // 12-14 (1 knight .. 4 queen, the same codes as our piece types). Castling is stored as
+    // the king capturing its own rook and is turned back into the two-square king move.
+    private static int decode(BitboardPosition position, int bits) {
+        int to = bits & 0x3F;
+        int from = (bits >>> 6) & 0x3F;
+        int promotion = (bits >>> 12) & 7;
+        if (position.typeAt(from) == BitboardPosition.KING && position.teamAt(to) == position.teamAt(from)
+                && position.typeAt(to) == BitboardPosition.ROOK) {
+            to = to > from ? from + 2 : from - 2;
+        }
+        if (position.teamAt(from) != position.getSideToMove()) return 0;
+        return position.encodeMove(from, to, promotion);
+    }
+
+    private static boolean contains(MoveList moves, int move) {
+        for (int i = 0; i < moves.size(); i++) {
+            if (moves.get(i) == move) return true;
+        }
+        return false;
+    }
+}
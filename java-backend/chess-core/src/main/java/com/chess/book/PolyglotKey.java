@@ -0,0 +1,117 @@
+package com.chess.book;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Fen;
+import com.chess.rules.Bitboards;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.chess.model.BitboardPosition.*;
+
+/**
+ * Polyglot position key. Books are indexed by this key, not by our own Zobrist hash
+ * (which also covers pawn hasMoved flags), so it is computed from scratch for lookups.
+ *
+ * The 781 Random64 constants of the Polyglot specification are read from a table file
+ * (chess.book.keys) or else the classpath resource polyglot-random64.txt: hex values
+ * separated by whitespace, in specification order (768 piece-square keys, 4 castling keys,
+ * 8 en passant file keys, side to move).
+ */
+public final class PolyglotKey {
+
+    public static final String RESOURCE = "/polyglot-random64.txt";
+    public static final int KEY_COUNT = 781;
+
+    // Key of the start position given in the Polyglot specification
+    private static final long START_KEY = 0x463B96181691FC9CL;
+
+    private static final int CASTLING_OFFSET = 768;
+    private static final int EN_PASSANT_OFFSET = 772;
+    private static final int TURN_OFFSET = 780;
+
+    private final long[] random64;
+
+    public PolyglotKey(long[] random64) {
+        if (random64.length != KEY_COUNT) {
+            throw new IllegalArgumentException("Polyglot needs " + KEY_COUNT + " keys, got " + random64.length);
+        }
+        this.random64 = random64;
+    }
+
+    // The table at path, or the classpath resource when path is blank
+    public static PolyglotKey load(String path) {
+        if (path == null || path.isBlank()) return fromResource();
+        try (InputStream in = Files.newInputStream(Path.of(path.trim()))) {
+            return read(in, path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read Polyglot keys " + path, e);
+        }
+    }
+
+    public static PolyglotKey fromResource() {
+        try (InputStream in = PolyglotKey.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) throw new IllegalStateException("Missing classpath resource " + RESOURCE);
+            return read(in, RESOURCE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + RESOURCE, e);
+        }
+    }
+
+    private static PolyglotKey read(InputStream in, String source) throws IOException {
+        try {
+            String[] tokens = new String(in.readAllBytes(), StandardCharsets.US_ASCII).trim().split("[\\s,]+");
+            if (tokens.length != KEY_COUNT) {
+                throw new IllegalStateException(source + " must hold " + KEY_COUNT + " keys, found " + tokens.length);
+            }
+            long[] keys = new long[KEY_COUNT];
+            for (int i = 0; i < KEY_COUNT; i++) {
+                keys[i] = Long.parseUnsignedLong(tokens[i].replaceFirst("^0[xX]", ""), 16);
+            }
+            PolyglotKey key = new PolyglotKey(keys);
+            // A table in the wrong order or from another hashing scheme would silently miss every
+            // book position; the published start position key catches most such mistakes
+            if (key.of(Fen.parse(Fen.START)) != START_KEY) {
+                throw new IllegalStateException(source + " does not give the Polyglot start position key "
+                        + Long.toHexString(START_KEY));
+            }
+            return key;
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(source + " holds a malformed key", e);
+        }
+    }
+
+    public long of(BitboardPosition position) {
+        long key = 0L;
+        for (int team = WHITE; team <= BLACK; team++) {
+            for (int type = PAWN; type <= KING; type++) {
+                // Polyglot kinds alternate black/white per type: black pawn 0, white pawn 1, ...
+                int kind = type * 2 + (team == WHITE ? 1 : 0);
+                long pieces = position.getPieces(team, type);
+                while (pieces != 0) {
+                    int square = Long.numberOfTrailingZeros(pieces);
+                    pieces &= pieces - 1;
+                    key ^= random64[64 * kind + square];
+                }
+            }
+        }
+
+        int rights = position.getCastlingRights();
+        if ((rights & WHITE_KINGSIDE) != 0) key ^= random64[CASTLING_OFFSET];
+        if ((rights & WHITE_QUEENSIDE) != 0) key ^= random64[CASTLING_OFFSET + 1];
+        if ((rights & BLACK_KINGSIDE) != 0) key ^= random64[CASTLING_OFFSET + 2];
+        if ((rights & BLACK_QUEENSIDE) != 0) key ^= random64[CASTLING_OFFSET + 3];
+
+        // The en passant file only counts when a pawn of the side to move can actually capture
+        int enPassant = position.getEnPassantSquare();
+        int side = position.getSideToMove();
+        if (enPassant >= 0 && (Bitboards.PAWN_ATTACKS[side ^ 1][enPassant] & position.getPieces(side, PAWN)) != 0) {
+            key ^= random64[EN_PASSANT_OFFSET + (enPassant & 7)];
+        }
+
+        if (side == WHITE) key ^= random64[TURN_OFFSET];
+        return key;
+    }
+}
@@ -0,0 +1,98 @@
+package com.chess.cache;
+
+import com.chess.model.BitboardPosition;
+import com.chess.rules.MoveGenerator;
+import com.chess.rules.PositionAnalysis;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, lock-free cache of PositionAnalysis results keyed by Zobrist hash + side.
+ * Entries are immutable and published through an AtomicReferenceArray, so readers never
+ * block; a racing writer can at worst drop an entry, which only costs a recomputation.
+ */
+public class AnalysisCache {
+
+    public enum ReplacementPolicy {
+        // Direct-mapped: a new entry always takes its slot
+        ALWAYS_REPLACE,
+        // Two-slot buckets: a new entry takes the first slot and pushes the previous one
+        // into the second, evicting the older of the two
+        TWO_WAY
+    }
+
+    private final AtomicReferenceArray<PositionAnalysis> slots;
+    private final int mask;
+    private final ReplacementPolicy policy;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public AnalysisCache(int entries, String policy) {
+        int capacity = Integer.highestOneBit(Math.max(2, entries) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.policy = ReplacementPolicy.valueOf(policy.trim().toUpperCase().replace('-', '_'));
+    }
+
+    // Cached analysis for the side, computing and storing it on a miss
+    public PositionAnalysis analyze(BitboardPosition position, int team, MoveGenerator generator) {
+        long key = position.getHash();
+        PositionAnalysis cached = get(key, team);
+        if (cached != null) return cached;
+
+        PositionAnalysis analysis = PositionAnalysis.analyze(position, team, generator);
+        put(analysis);
+        return analysis;
+    }
+
+    public PositionAnalysis get(long key, int team) {
+        int index = index(key, team);
+        PositionAnalysis entry = slots.get(index);
+        if (entry == null || !entry.matches(key, team)) {
+            entry = policy == ReplacementPolicy.TWO_WAY ? slots.get(index + 1) : null;
+        }
+        if (entry != null && entry.matches(key, team)) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(PositionAnalysis analysis) {
+        int index = index(analysis.getKey(), analysis.getTeam());
+        PositionAnalysis previous = slots.getAndSet(index, analysis);
+        if (policy == ReplacementPolicy.TWO_WAY && previous != null
+                && !previous.matches(analysis.getKey(), analysis.getTeam())) {
+            previous = slots.getAndSet(index + 1, previous);
+        }
+        if (previous != null && !previous.matches(analysis.getKey(), analysis.getTeam())) {
+            evictions.increment();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long lookups = hitCount + missCount;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("capacity", slots.length());
+        stats.put("policy", policy.name());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.sum());
+        stats.put("hitRate", lookups == 0 ? 0.0 : (double) hitCount / lookups);
+        return stats;
+    }
+
+    // Side is folded into the key so both sides of one position land in different buckets
+    private int index(long key, int team) {
+        long mixed = key ^ (team == BitboardPosition.BLACK ? 0x9E3779B97F4A7C15L : 0L);
+        int index = (int) (mixed ^ (mixed >>> 32)) & mask;
+        return policy == ReplacementPolicy.TWO_WAY ? index & ~1 : index;
+    }
+}
@@ -0,0 +1,89 @@
+package com.chess.dto;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Fen;
+import com.chess.model.Move;
+import com.chess.model.PieceType;
+import com.chess.model.Team;
+import com.chess.model.Uci;
+import java.util.List;
+
+/**
+ * Body of POST /api/chess/analyze, bound directly by the JSON layer. Two forms are accepted:
+ * <ul>
+ *   <li>the original shape: from, to, piece and the full boardState array;</li>
+ *   <li>the compact shape: a FEN string plus a UCI move, e.g. {"fen": "...", "move": "e2e4"}.</li>
+ * </ul>
+ * A promotion piece is given as promotion ("queen", "knight", ...) or as the fifth UCI
+ * character; a pawn reaching the last rank without one is promoted to a queen.
+ * Both are parsed straight into a BitboardPosition without intermediate maps; piece and
+ * team names are parsed leniently here and nowhere past the request.
+ */
+public record AnalyzeRequest(Coordinates from, Coordinates to, PieceDto piece,
+                             List<PieceDto> boardState, int totalMoves,
+                             String fen, String move, String promotion) {
+
+    public boolean isFen() {
+        return fen != null;
+    }
+
+    public BitboardPosition toPosition() {
+        if (isFen()) return Fen.parse(fen);
+        if (boardState == null) throw new IllegalArgumentException("Either fen or boardState is required");
+
+        return PieceDto.toPosition(boardState);
+    }
+
+    public int fromSquare() {
+        return isFen() ? Move.from(uciMove()) : requireCoordinates(from, "from").square();
+    }
+
+    public int toSquare() {
+        return isFen() ? Move.to(uciMove()) : requireCoordinates(to, "to").square();
+    }
+
+    // Promotion piece type, or 0 to let BitboardPosition.encodeMove default to a queen
+    public int promotionType() {
+        if (isFen()) return Move.promotion(uciMove());
+        if (promotion == null) return 0;
+        PieceType type = PieceType.parse(promotion);
+        if (type == null || type == PieceType.PAWN || type == PieceType.KING) {
+            throw new IllegalArgumentException("Invalid promotion piece: " + promotion);
+        }
+        return type.index();
+    }
+
+    // The moving piece's type: declared in the JSON form (null if unknown), read off the board in the FEN form
+    public PieceType pieceType(BitboardPosition position) {
+        if (!isFen()) return PieceType.parse(requirePiece().type());
+        return PieceType.of(occupiedFrom(position) % 6);
+    }
+
+    public Team team(BitboardPosition position) {
+        if (!isFen()) return Team.parse(requirePiece().team());
+        return Team.of(occupiedFrom(position) / 6);
+    }
+
+    // --- HELPERS ---
+
+    private int uciMove() {
+        if (move == null) throw new IllegalArgumentException("move is required with fen");
+        return Uci.parse(move);
+    }
+
+    private int occupiedFrom(BitboardPosition position) {
+        int code = position.pieceAt(fromSquare());
+        if (code == BitboardPosition.EMPTY) throw new IllegalArgumentException("No piece on " + move.substring(0, 2));
+        return code;
+    }
+
+    private PieceDto requirePiece() {
+        if (piece == null) throw new IllegalArgumentException("piece is required");
+        return piece;
+    }
+
+    private static Coordinates requireCoordinates(Coordinates coordinates, String field) {
+        if (coordinates == null) throw new IllegalArgumentException(field + " is required");
+        return coordinates;
+    }
+}
@@ -0,0 +1,17 @@
+package com.chess.dto;
+
+import com.chess.model.BitboardPosition;
+import java.util.List;
+
+/**
+ * Body of POST /api/chess/bestmove: a position in either form accepted by /moves, plus
+ * the search budget. timeMs, nodes and depth are optional (0 = server default / no limit);
+ * threads asks for a parallel search and is capped by chess.search.max-threads.
+ */
+public record BestMoveRequest(List<PieceDto> boardState, String team, int totalMoves, String fen,
+                              long timeMs, long nodes, int depth, int threads) {
+
+    public BitboardPosition toPosition() {
+        return new PositionRequest(boardState, team, totalMoves, fen).toPosition();
+    }
+}
@@ -0,0 +1,10 @@
+package com.chess.dto;
+
+public record Coordinates(int x, int y) {
+
+    // Square index (y * 8 + x), or -1 when off the board
+    public int square() {
+        if (x < 0 || x > 7 || y < 0 || y > 7) return -1;
+        return (y << 3) | x;
+    }
+}
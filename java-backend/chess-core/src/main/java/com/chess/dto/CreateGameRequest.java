@@ -0,0 +1,4 @@
+package com.chess.dto;
+
+// Optional starting position; the standard initial position when fen is absent
+public record CreateGameRequest(String fen) {}
@@ -0,0 +1,5 @@
+package com.chess.dto;
+
+public record GameState(String id, String fen, String sideToMove, int ply, String status,
+                        boolean isCheck, boolean isCheckmate, boolean isStalemate,
+                        String winningTeam, String drawReason, String lastMove) {}
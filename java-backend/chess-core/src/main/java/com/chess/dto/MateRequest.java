@@ -0,0 +1,18 @@
+package com.chess.dto;
+
+import com.chess.model.BitboardPosition;
+import java.util.List;
+
+/**
+ * Body of POST /api/chess/mate (and one item of /mate/batch): a position in either form
+ * accepted by /moves, the number of moves the side to move has to mate in, and the
+ * budget. checksOnly restricts the attacker to checking moves; nodes and timeMs are
+ * optional (0 = server default / no limit).
+ */
+public record MateRequest(List<PieceDto> boardState, String team, int totalMoves, String fen,
+                          int maxMoves, boolean checksOnly, long nodes, long timeMs) {
+
+    public BitboardPosition toPosition() {
+        return new PositionRequest(boardState, team, totalMoves, fen).toPosition();
+    }
+}
@@ -0,0 +1,9 @@
+package com.chess.dto;
+
+/**
+ * Compact delta pushed to a game's subscribers after each move: the move in UCI, the ply
+ * it made, and the status it left. Applying the move to the previous state gives the new
+ * one, so no board is sent.
+ */
+public record MoveEvent(int ply, String move, String sideToMove, String status, boolean isCheck,
+                        String winningTeam, String drawReason) {}
@@ -0,0 +1,24 @@
+package com.chess.dto;
+
+import com.chess.model.Move;
+import com.chess.model.PieceType;
+import com.chess.model.Uci;
+
+/**
+ * A move for a server-side game: either UCI ("e2e4", "e7e8q") or from/to coordinates
+ * with an optional promotion piece type.
+ */
+public record MoveRequest(String move, Coordinates from, Coordinates to, String promotion) {
+
+    // Squares and promotion only; the game adds castling / en passant flags from its position
+    public int toMove() {
+        if (move != null) return Uci.parse(move);
+        if (from == null || to == null) throw new IllegalArgumentException("move or from/to is required");
+        if (from.square() < 0 || to.square() < 0) throw new IllegalArgumentException("Square off the board");
+        PieceType type = promotion == null ? null : PieceType.parse(promotion);
+        if (promotion != null && (type == null || type == PieceType.PAWN || type == PieceType.KING)) {
+            throw new IllegalArgumentException("Invalid promotion piece: " + promotion);
+        }
+        return Move.of(from.square(), to.square(), type == null ? 0 : type.index(), Move.NORMAL);
+    }
+}
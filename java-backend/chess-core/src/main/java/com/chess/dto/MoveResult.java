@@ -0,0 +1,3 @@
+package com.chess.dto;
+
+public record MoveResult(boolean valid, String error, GameState game) {}
@@ -0,0 +1,33 @@
+package com.chess.dto;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.PieceType;
+import com.chess.model.Team;
+import java.util.List;
+
+/**
+ * One piece of the JSON boardState array. enPassant marks a pawn that has just made its
+ * double step and may be taken en passant (the frontend Pawn field of the same name).
+ */
+public record PieceDto(Coordinates position, String type, String team, boolean hasMoved, boolean enPassant) {
+
+    // Loads a boardState array into a bitboard, deriving castling rights and the en passant square
+    public static BitboardPosition toPosition(List<PieceDto> boardState) {
+        BitboardPosition position = new BitboardPosition();
+        int enPassant = -1;
+        for (PieceDto p : boardState) {
+            PieceType pieceType = PieceType.parse(p.type());
+            int square = p.position() == null ? -1 : p.position().square();
+            if (pieceType == null || square < 0) continue;
+            int type = pieceType.index();
+            int team = Team.parse(p.team()).index();
+            position.put(square, team, type, p.hasMoved());
+            if (p.enPassant() && type == BitboardPosition.PAWN) {
+                enPassant = team == BitboardPosition.WHITE ? square - 8 : square + 8;
+            }
+        }
+        position.setCastlingRights(position.deriveCastlingRights());
+        if (enPassant >= 0 && enPassant < 64) position.setEnPassantSquare(enPassant);
+        return position;
+    }
+}
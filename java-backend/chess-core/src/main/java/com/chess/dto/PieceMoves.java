@@ -0,0 +1,30 @@
+package com.chess.dto;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Square;
+import com.chess.rules.PositionAnalysis;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Legal destinations of one piece, as sent in the whole-position legal move map.
+ * Castling appears as the king's two-square step; a pawn move onto the last rank
+ * is a promotion (the piece is chosen when the move is committed).
+ */
+public record PieceMoves(Square from, String type, List<Square> moves) {
+
+    // One entry per piece of the analysed side that has at least one legal move
+    public static List<PieceMoves> listOf(PositionAnalysis analysis, BitboardPosition position) {
+        List<PieceMoves> result = new ArrayList<>();
+        long pieces = analysis.getPieces();
+        while (pieces != 0) {
+            int square = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            long moves = analysis.getLegalMoves(square);
+            if (moves == 0) continue;
+            result.add(new PieceMoves(Square.of(square),
+                    BitboardPosition.typeName(position.typeAt(square)), Square.listOf(moves)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,28 @@
+package com.chess.dto;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Fen;
+import com.chess.model.Team;
+import java.util.List;
+
+/**
+ * Body of POST /api/chess/moves: a position as FEN or as the boardState array. The side
+ * to move comes from team if given, else from the FEN, else from the parity of totalMoves
+ * (even means white, as in the frontend's turn counter).
+ */
+public record PositionRequest(List<PieceDto> boardState, String team, int totalMoves, String fen) {
+
+    public BitboardPosition toPosition() {
+        BitboardPosition position;
+        if (fen != null) {
+            position = Fen.parse(fen);
+        } else if (boardState != null) {
+            position = PieceDto.toPosition(boardState);
+            position.setSideToMove(totalMoves % 2 == 0 ? BitboardPosition.WHITE : BitboardPosition.BLACK);
+        } else {
+            throw new IllegalArgumentException("Either fen or boardState is required");
+        }
+        if (team != null) position.setSideToMove(Team.parse(team).index());
+        return position;
+    }
+}
@@ -0,0 +1,27 @@
+package com.chess.engine;
+
+import com.chess.model.BitboardPosition;
+
+/**
+ * Static evaluation used at the leaves of the search. The search plays its moves through
+ * makeMove/unmakeMove here, so an evaluator can keep incremental state along the line
+ * being searched; stateless evaluators just use the defaults.
+ */
+public interface Evaluator {
+
+    // Score in centipawns from the point of view of the side to move
+    int evaluate(BitboardPosition position);
+
+    // The instance one search thread uses; evaluators with per-line state return a new one
+    default Evaluator newInstance() {
+        return this;
+    }
+
+    default void makeMove(BitboardPosition position, int move) {
+        position.makeMove(move);
+    }
+
+    default void unmakeMove(BitboardPosition position, int move) {
+        position.unmakeMove(move);
+    }
+}
@@ -0,0 +1,27 @@
+package com.chess.engine;
+
+/**
+ * Outcome of a mate search. For MATE, mateIn is the length of the shortest forced mate
+ * in moves of the side to move and line is a mating line (the defender choosing the
+ * longest resistance). NO_MATE proves there is no mate within the requested number of
+ * moves; UNKNOWN means the node or time budget ran out first, with mateIn moves, if
+ * any, already proven to have no mate.
+ */
+public record MateResult(Outcome outcome, int mateIn, int[] line, long nodes, long elapsedNanos) {
+
+    public enum Outcome {
+        MATE("mate"), NO_MATE("no-mate"), UNKNOWN("unknown");
+
+        private final String name;
+
+        Outcome(String name) {
+            this.name = name;
+        }
+
+        public String getName() { return name; }
+    }
+
+    public long nodesPerSecond() {
+        return nodes * 1_000_000_000L / Math.max(1, elapsedNanos);
+    }
+}
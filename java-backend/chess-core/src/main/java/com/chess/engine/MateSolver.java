@@ -0,0 +1,256 @@
+package com.chess.engine;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.MoveList;
+import com.chess.rules.MoveGenerator;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Forced-mate finder for puzzles: depth-first proof-number search (df-pn) over a
+ * bounded hash table (see MateTable). The defender tries every legal move; the attacker
+ * only checking moves on its last move, where nothing else can mate, and before that
+ * checks first: quiet moves start with a higher proof number, so they are only explored
+ * once the checks look hard to prove. With checksOnly the attacker never plays a quiet
+ * move, which is much faster but only finds (and rules out) mates by a series of checks.
+ * Each position is keyed together with the plies left, which keeps the graph acyclic
+ * and lets a disproof be exact for its depth; repetitions and the fifty-move rule are
+ * ignored, as puzzles do. Mate in 1, 2, ... maxMoves is proven in turn, so a reported
+ * mate is the shortest one, and the smaller proofs are reused by the deeper iterations.
+ *
+ * Nodes are counted per expansion. The node and time limits are polled every
+ * CHECK_INTERVAL + 1 nodes. Not thread-safe; use one instance per thread.
+ */
+public final class MateSolver {
+
+    public static final int MAX_MOVES = 32;
+
+    private static final int MAX_PLIES = 2 * MAX_MOVES;
+    // Proof and disproof numbers saturate here; a solved node has one of them at INFINITE
+    private static final int INFINITE = 100_000_000;
+    private static final int CHECK_INTERVAL = 1023;
+    // Initial proof number of a quiet attacker move; checks start at 1
+    private static final int QUIET_PROOF = 4;
+    private static final long[] REMAINING_KEYS = new long[MAX_PLIES + 1];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x6D617465L);
+        for (int i = 0; i <= MAX_PLIES; i++) REMAINING_KEYS[i] = random.nextLong();
+    }
+
+    private final MateTable table;
+    private final MoveGenerator[] generators = new MoveGenerator[MAX_PLIES + 1];
+    private final MoveList[] moveLists = new MoveList[MAX_PLIES + 1];
+    // Per ply, the (phi, delta) of every child from the child's side, and its plies to mate
+    private final int[][] childPhi = new int[MAX_PLIES + 1][];
+    private final int[][] childDelta = new int[MAX_PLIES + 1][];
+    private final int[][] childDistance = new int[MAX_PLIES + 1][];
+
+    private BitboardPosition position;
+    private long nodes;
+    private long nodeLimit;
+    private long deadline;
+    private boolean stopped;
+    private boolean checksOnly;
+
+    // Written by every mid call for its caller
+    private int resultPhi;
+    private int resultDelta;
+    private int resultDistance;
+
+    public MateSolver(int hashMb) {
+        this.table = new MateTable(hashMb);
+        for (int ply = 0; ply <= MAX_PLIES; ply++) {
+            generators[ply] = new MoveGenerator();
+            moveLists[ply] = new MoveList();
+            childPhi[ply] = new int[256];
+            childDelta[ply] = new int[256];
+            childDistance[ply] = new int[256];
+        }
+    }
+
+    // Mate for the side to move within maxMoves moves (at most MAX_MOVES); 0 limits are off
+    public MateResult solve(BitboardPosition position, int maxMoves, boolean checksOnly, long nodeLimit, long timeMs) {
+        long start = System.nanoTime();
+        this.position = position;
+        this.checksOnly = checksOnly;
+        this.nodes = 0;
+        this.stopped = false;
+        this.nodeLimit = nodeLimit > 0 ? nodeLimit : Long.MAX_VALUE;
+        this.deadline = timeMs > 0 ? start + timeMs * 1_000_000L : Long.MAX_VALUE;
+        table.newSolve();
+
+        int moves = Math.max(1, Math.min(maxMoves, MAX_MOVES));
+        for (int n = 1; n <= moves; n++) {
+            int remaining = 2 * n - 1;
+            mid(0, remaining, INFINITE, INFINITE);
+            if (stopped) {
+                return new MateResult(MateResult.Outcome.UNKNOWN, n - 1, new int[0], nodes, System.nanoTime() - start);
+            }
+            if (resultPhi == 0) {
+                return new MateResult(MateResult.Outcome.MATE, n, line(remaining), nodes, System.nanoTime() - start);
+            }
+        }
+        return new MateResult(MateResult.Outcome.NO_MATE, moves, new int[0], nodes, System.nanoTime() - start);
+    }
+
+    // --- DF-PN ---
+
+    // Expands the node until its phi or delta reaches the threshold. phi and delta are the
+    // proof and disproof numbers seen from the side to move: phi = 0 means that side wins
+    // (mates, or escapes as the defender), delta = 0 that it loses
+    private void mid(int ply, int remaining, int thresholdPhi, int thresholdDelta) {
+        long key = position.getHash() ^ REMAINING_KEYS[remaining];
+        long startNodes = nodes;
+        if (shouldStop()) return;
+        boolean attacker = (remaining & 1) == 1;
+
+        // --- TERMINAL NODES ---
+        MoveGenerator generator = generators[ply];
+        generator.reset(position, position.getSideToMove());
+        MoveList moves = moveLists[ply];
+        moves.clear();
+        if (attacker) {
+            if (checksOnly || remaining == 1) generator.generateChecks(moves);
+            else generator.generate(moves);
+            if (moves.isEmpty()) {
+                finish(key, INFINITE, 0, 0, 0, startNodes);
+                return;
+            }
+        } else if (remaining == 0) {
+            // Only mate counts at the horizon: the defender is in check here
+            if (generator.hasLegalMoves()) finish(key, 0, INFINITE, 0, 0, startNodes);
+            else finish(key, INFINITE, 0, 0, 0, startNodes);
+            return;
+        } else {
+            generator.generate(moves);
+            if (moves.isEmpty()) {
+                if (generator.isCheck()) finish(key, INFINITE, 0, 0, 0, startNodes);
+                else finish(key, 0, INFINITE, 0, 0, startNodes);
+                return;
+            }
+        }
+
+        // --- CHILDREN FROM THE TABLE ---
+        int count = moves.size();
+        int[] phis = childPhi[ply];
+        int[] deltas = childDelta[ply];
+        int[] distances = childDistance[ply];
+        int mover = position.getSideToMove();
+        for (int i = 0; i < count; i++) {
+            position.makeMove(moves.get(i));
+            if (table.probe(position.getHash() ^ REMAINING_KEYS[remaining - 1])) {
+                phis[i] = table.probedPhi;
+                deltas[i] = table.probedDelta;
+                distances[i] = table.probedDistance;
+            } else {
+                boolean quiet = attacker && !position.isAttacked(position.kingSquare(mover ^ 1), mover);
+                phis[i] = 1;
+                deltas[i] = quiet ? QUIET_PROOF : 1;
+                distances[i] = 0;
+            }
+            position.unmakeMove(moves.get(i));
+        }
+
+        // --- SEARCH THE MOST PROVING CHILD ---
+        while (true) {
+            int phi = INFINITE;
+            int delta = 0;
+            int best = 0;
+            int secondDelta = INFINITE;
+            for (int i = 0; i < count; i++) {
+                if (deltas[i] < phi) {
+                    secondDelta = phi;
+                    phi = deltas[i];
+                    best = i;
+                } else if (deltas[i] < secondDelta) {
+                    secondDelta = deltas[i];
+                }
+                delta = Math.min(INFINITE, delta + phis[i]);
+            }
+
+            if (phi >= thresholdPhi || delta >= thresholdDelta || stopped) {
+                store(key, phi, delta, moves, count, phis, deltas, distances, best, startNodes);
+                return;
+            }
+
+            int childThresholdPhi = (int) Math.min(INFINITE, (long) thresholdDelta - delta + phis[best]);
+            int childThresholdDelta = Math.min(thresholdPhi, secondDelta >= INFINITE ? INFINITE : secondDelta + 1);
+            int move = moves.get(best);
+            position.makeMove(move);
+            mid(ply + 1, remaining - 1, childThresholdPhi, childThresholdDelta);
+            position.unmakeMove(move);
+            phis[best] = resultPhi;
+            deltas[best] = resultDelta;
+            distances[best] = resultDistance;
+        }
+    }
+
+    // A won node keeps its quickest win, a lost one its longest resistance
+    private void store(long key, int phi, int delta, MoveList moves, int count,
+                       int[] phis, int[] deltas, int[] distances, int best, long startNodes) {
+        int bestMove = moves.get(best);
+        int distance = 0;
+        if (phi == 0) {
+            distance = Integer.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                if (deltas[i] == 0 && distances[i] + 1 < distance) {
+                    distance = distances[i] + 1;
+                    bestMove = moves.get(i);
+                }
+            }
+        } else if (delta == 0) {
+            distance = -1;
+            for (int i = 0; i < count; i++) {
+                if (distances[i] + 1 > distance) {
+                    distance = distances[i] + 1;
+                    bestMove = moves.get(i);
+                }
+            }
+        }
+        finish(key, phi, delta, bestMove, distance, startNodes);
+    }
+
+    private void finish(long key, int phi, int delta, int move, int distance, long startNodes) {
+        if (!stopped) table.store(key, phi, delta, move, distance, nodes - startNodes);
+        resultPhi = phi;
+        resultDelta = delta;
+        resultDistance = distance;
+    }
+
+    // --- MATING LINE ---
+
+    // Follows the stored moves of a proven root, re-proving any position the table lost
+    private int[] line(int remaining) {
+        int[] line = new int[remaining];
+        int length = 0;
+        while (remaining > 0) {
+            long key = position.getHash() ^ REMAINING_KEYS[remaining];
+            if (!isSolved(key, remaining)) {
+                mid(length, remaining, INFINITE, INFINITE);
+                if (!isSolved(key, remaining)) break;
+            }
+            int move = table.probedMove;
+            if (move == 0) break;
+            line[length++] = move;
+            position.makeMove(move);
+            remaining--;
+        }
+        for (int i = length - 1; i >= 0; i--) position.unmakeMove(line[i]);
+        return Arrays.copyOf(line, length);
+    }
+
+    // Whether the table holds a win for the attacker here: a mate found or no escape left
+    private boolean isSolved(long key, int remaining) {
+        if (!table.probe(key)) return false;
+        return (remaining & 1) == 1 ? table.probedPhi == 0 : table.probedDelta == 0;
+    }
+
+    private boolean shouldStop() {
+        nodes++;
+        if (!stopped && (nodes >= nodeLimit || ((nodes & CHECK_INTERVAL) == 0 && System.nanoTime() >= deadline))) {
+            stopped = true;
+        }
+        return stopped;
+    }
+}
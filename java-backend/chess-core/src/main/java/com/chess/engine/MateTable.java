@@ -0,0 +1,81 @@
+package com.chess.engine;
+
+/**
+ * Bounded hash table of the mate solver. Buckets hold two entries; a new position
+ * replaces the one whose subtree took less work to search, so the expensive proofs
+ * survive when the table fills up. Entries from earlier solves are stale and count as
+ * free (see newSolve). Keys must already include the remaining depth.
+ *
+ * Not thread-safe: every MateSolver owns its table.
+ */
+final class MateTable {
+
+    private final long[] keys;
+    private final int[] phi;
+    private final int[] delta;
+    // Best move in bits 0-16, plies to mate in bits 17-24
+    private final int[] moves;
+    // Subtree size in bits 0-23 (saturating), solve generation in bits 24-31
+    private final int[] work;
+    private final int mask;
+    private int generation;
+
+    // Filled in by probe
+    int probedPhi;
+    int probedDelta;
+    int probedMove;
+    int probedDistance;
+
+    MateTable(int megabytes) {
+        long entries = Math.max(1024, (long) megabytes * 1024 * 1024 / 24);
+        int capacity = Integer.highestOneBit((int) Math.min(entries, 1 << 28));
+        keys = new long[capacity];
+        phi = new int[capacity];
+        delta = new int[capacity];
+        moves = new int[capacity];
+        work = new int[capacity];
+        mask = capacity - 2;
+    }
+
+    void newSolve() {
+        generation = (generation + 1) & 0xFF;
+        // Generation 0 is what an untouched slot reads as
+        if (generation == 0) generation = 1;
+    }
+
+    boolean probe(long key) {
+        int index = (int) key & mask;
+        for (int i = index; i < index + 2; i++) {
+            if (keys[i] == key && work[i] >>> 24 == generation) {
+                probedPhi = phi[i];
+                probedDelta = delta[i];
+                probedMove = moves[i] & 0x1FFFF;
+                probedDistance = moves[i] >>> 17;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void store(long key, int phi, int delta, int move, int distance, long nodes) {
+        int index = (int) key & mask;
+        int slot = index;
+        if (!isCurrent(index, key)) {
+            if (isCurrent(index + 1, key) || size(index + 1) < size(index)) slot = index + 1;
+        }
+        keys[slot] = key;
+        this.phi[slot] = phi;
+        this.delta[slot] = delta;
+        moves[slot] = (move & 0x1FFFF) | (Math.min(distance, 255) << 17);
+        work[slot] = (generation << 24) | (int) Math.min(nodes, 0xFFFFFF);
+    }
+
+    private boolean isCurrent(int slot, long key) {
+        return keys[slot] == key && work[slot] >>> 24 == generation;
+    }
+
+    // Work of the entry, -1 when it is free or stale
+    private int size(int slot) {
+        return work[slot] >>> 24 == generation ? work[slot] & 0xFFFFFF : -1;
+    }
+}
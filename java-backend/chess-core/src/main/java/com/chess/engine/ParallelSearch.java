@@ -0,0 +1,78 @@
+package com.chess.engine;
+
+import com.chess.model.BitboardPosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lazy SMP: the calling thread and N - 1 helper threads search the same root, each on its
+ * own copy of the position, and share only the transposition table. Helpers make the
+ * table fill faster and in a different order, which is what speeds up the main thread;
+ * the main thread's result is the one returned. When it finishes, normally or not, the
+ * shared stop flag halts the helpers.
+ *
+ * Helper threads come from a fixed pool and are handed out through a semaphore holding
+ * one permit per pool thread, so the total number of helpers across all concurrent
+ * searches never exceeds the pool size. A search that finds no free permit simply runs
+ * with fewer helpers; it never waits for one.
+ */
+public final class ParallelSearch {
+
+    private final Evaluator evaluator;
+    private final TranspositionTable table;
+    private final ExecutorService helperPool;
+    private final Semaphore helperPermits;
+
+    public ParallelSearch(Evaluator evaluator, TranspositionTable table, ExecutorService helperPool, int maxHelpers) {
+        this.evaluator = evaluator;
+        this.table = table;
+        this.helperPool = helperPool;
+        this.helperPermits = new Semaphore(maxHelpers);
+    }
+
+    // Searches with up to `threads` threads in total (the caller's thread included)
+    public Outcome search(BitboardPosition position, SearchLimits limits, int threads) {
+        int helpers = 0;
+        while (helpers < threads - 1 && helperPermits.tryAcquire()) helpers++;
+        AtomicBoolean stop = new AtomicBoolean();
+        try {
+            table.newSearch();
+            List<Future<SearchResult>> running = new ArrayList<>(helpers);
+            for (int i = 1; i <= helpers; i++) {
+                BitboardPosition copy = position.copy();
+                int threadIndex = i;
+                running.add(helperPool.submit(() -> new Search(evaluator, table).search(copy, limits, stop, threadIndex)));
+            }
+
+            SearchResult main = new Search(evaluator, table).search(position, limits, stop, 0);
+            stop.set(true);
+
+            long nodes = main.nodes();
+            for (Future<SearchResult> helper : running) {
+                nodes += helper.get().nodes();
+            }
+            SearchResult result = new SearchResult(main.bestMove(), main.score(), main.depth(), nodes,
+                    main.elapsedNanos(), main.pv());
+            return new Outcome(result, helpers + 1);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Search interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Helper search failed", e.getCause());
+        } finally {
+            // Also when the main search threw or the caller was interrupted: helpers must not
+            // keep searching to their deadline after their permits are handed out again
+            stop.set(true);
+            helperPermits.release(helpers);
+        }
+    }
+
+    // Search result plus the number of threads that actually took part
+    public record Outcome(SearchResult result, int threads) {}
+}
@@ -0,0 +1,137 @@
+package com.chess.engine;
+
+import com.chess.model.BitboardPosition;
+
+import static com.chess.model.BitboardPosition.*;
+
+/**
+ * Material plus piece-square tables, with the king table blended between middlegame
+ * and endgame by the remaining non-pawn material. Stateless and thread-safe.
+ */
+public final class PieceSquareEvaluator implements Evaluator {
+
+    public static final int[] PIECE_VALUES = {100, 320, 330, 500, 900, 0};
+
+    // Tables are written from White's side with rank 8 first, as the board is usually drawn
+    private static final int[][] TABLES = {
+        { // PAWN
+              0,   0,   0,   0,   0,   0,   0,   0,
+             50,  50,  50,  50,  50,  50,  50,  50,
+             10,  10,  20,  30,  30,  20,  10,  10,
+              5,   5,  10,  25,  25,  10,   5,   5,
+              0,   0,   0,  20,  20,   0,   0,   0,
+              5,  -5, -10,   0,   0, -10,  -5,   5,
+              5,  10,  10, -20, -20,  10,  10,   5,
+              0,   0,   0,   0,   0,   0,   0,   0,
+        },
+        { // KNIGHT
+            -50, -40, -30, -30, -30, -30, -40, -50,
+            -40, -20,   0,   0,   0,   0, -20, -40,
+            -30,   0,  10,  15,  15,  10,   0, -30,
+            -30,   5,  15,  20,  20,  15,   5, -30,
+            -30,   0,  15,  20,  20,  15,   0, -30,
+            -30,   5,  10,  15,  15,  10,   5, -30,
+            -40, -20,   0,   5,   5,   0, -20, -40,
+            -50, -40, -30, -30, -30, -30, -40, -50,
+        },
+        { // BISHOP
+            -20, -10, -10, -10, -10, -10, -10, -20,
+            -10,   0,   0,   0,   0,   0,   0, -10,
+            -10,   0,   5,  10,  10,   5,   0, -10,
+            -10,   5,   5,  10,  10,   5,   5, -10,
+            -10,   0,  10,  10,  10,  10,   0, -10,
+            -10,  10,  10,  10,  10,  10,  10, -10,
+            -10,   5,   0,   0,   0,   0,   5, -10,
+            -20, -10, -10, -10, -10, -10, -10, -20,
+        },
+        { // ROOK
+              0,   0,   0,   0,   0,   0,   0,   0,
+              5,  10,  10,  10,  10,  10,  10,   5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+              0,   0,   0,   5,   5,   0,   0,   0,
+        },
+        { // QUEEN
+            -20, -10, -10,  -5,  -5, -10, -10, -20,
+            -10,   0,   0,   0,   0,   0,   0, -10,
+            -10,   0,   5,   5,   5,   5,   0, -10,
+             -5,   0,   5,   5,   5,   5,   0,  -5,
+              0,   0,   5,   5,   5,   5,   0,  -5,
+            -10,   5,   5,   5,   5,   5,   0, -10,
+            -10,   0,   5,   0,   0,   0,   0, -10,
+            -20, -10, -10,  -5,  -5, -10, -10, -20,
+        },
+        { // KING (middlegame)
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -20, -30, -30, -40, -40, -30, -30, -20,
+            -10, -20, -20, -20, -20, -20, -20, -10,
+             20,  20,   0,   0,   0,   0,  20,  20,
+             20,  30,  10,   0,   0,  10,  30,  20,
+        },
+    };
+
+    private static final int[] KING_ENDGAME = {
+        -50, -40, -30, -20, -20, -30, -40, -50,
+        -30, -20, -10,   0,   0, -10, -20, -30,
+        -30, -10,  20,  30,  30,  20, -10, -30,
+        -30, -10,  30,  40,  40,  30, -10, -30,
+        -30, -10,  30,  40,  40,  30, -10, -30,
+        -30, -10,  20,  30,  30,  20, -10, -30,
+        -30, -30,   0,   0,   0,   0, -30, -30,
+        -50, -30, -30, -30, -30, -30, -30, -50,
+    };
+
+    // Game phase weight per piece type; 24 is the full starting set
+    private static final int[] PHASE_WEIGHTS = {0, 1, 1, 2, 4, 0};
+    private static final int MAX_PHASE = 24;
+
+    // Material + table value indexed by [piece code][square]; kings carry both phases
+    private static final int[][] SCORES = new int[12][64];
+    private static final int[][] KING_ENDGAME_SCORES = new int[2][64];
+
+    static {
+        for (int type = PAWN; type <= KING; type++) {
+            for (int square = 0; square < 64; square++) {
+                // Table index for White flips the rank (tables start at rank 8); Black reads them mirrored
+                SCORES[WHITE * 6 + type][square] = PIECE_VALUES[type] + TABLES[type][square ^ 56];
+                SCORES[BLACK * 6 + type][square] = PIECE_VALUES[type] + TABLES[type][square];
+            }
+        }
+        for (int square = 0; square < 64; square++) {
+            KING_ENDGAME_SCORES[WHITE][square] = KING_ENDGAME[square ^ 56];
+            KING_ENDGAME_SCORES[BLACK][square] = KING_ENDGAME[square];
+        }
+    }
+
+    @Override
+    public int evaluate(BitboardPosition position) {
+        int score = 0;       // White minus Black, middlegame king tables
+        int kingShift = 0;   // White minus Black, endgame minus middlegame king table
+        int phase = 0;
+        for (int team = WHITE; team <= BLACK; team++) {
+            int sign = team == WHITE ? 1 : -1;
+            for (int type = PAWN; type <= KING; type++) {
+                long pieces = position.getPieces(team, type);
+                phase += PHASE_WEIGHTS[type] * Long.bitCount(pieces);
+                int[] table = SCORES[team * 6 + type];
+                while (pieces != 0) {
+                    int square = Long.numberOfTrailingZeros(pieces);
+                    pieces &= pieces - 1;
+                    score += sign * table[square];
+                }
+            }
+            int king = position.kingSquare(team);
+            if (king >= 0) kingShift += sign * (KING_ENDGAME_SCORES[team][king] - SCORES[team * 6 + KING][king]);
+        }
+        // Taper the king from its middlegame table towards the endgame one as material comes off
+        phase = Math.min(phase, MAX_PHASE);
+        score += kingShift * (MAX_PHASE - phase) / MAX_PHASE;
+        return position.getSideToMove() == WHITE ? score : -score;
+    }
+}
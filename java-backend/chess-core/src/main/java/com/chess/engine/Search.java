@@ -0,0 +1,367 @@
+package com.chess.engine;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Move;
+import com.chess.model.MoveList;
+import com.chess.rules.MoveGenerator;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.chess.model.BitboardPosition.*;
+
+/**
+ * Iterative-deepening principal variation search with quiescence search.
+ * Moves are ordered by the transposition table move, MVV-LVA for captures, then killer
+ * moves, then the history heuristic. The position is searched in place with
+ * makeMove/unmakeMove, played through the evaluator so it can follow the line, and comes
+ * back unchanged. Repetitions, including of positions
+ * from the game history on the position's undo stack, and the fifty-move rule score as
+ * draws. Time and node limits are hard: they are
+ * polled every CHECK_INTERVAL + 1 nodes together with the shared stop flag and abort the
+ * search, which then returns the deepest completed iteration.
+ *
+ * Not thread-safe; use one instance per thread. Several instances may share one
+ * TranspositionTable and stop flag, which is how ParallelSearch runs Lazy SMP.
+ */
+public final class Search {
+
+    public static final int INFINITY = 32000;
+    public static final int MATE = 31000;
+    public static final int MAX_PLY = 128;
+
+    // Limits are polled every 1024 nodes, a fraction of a millisecond at search speed
+    private static final int CHECK_INTERVAL = 1023;
+
+    // Move ordering bands: best / table move, captures, killers, then history scores
+    private static final int HASH_MOVE = 1 << 30;
+    private static final int CAPTURE = 1 << 24;
+    private static final int KILLER_1 = CAPTURE - 1;
+    private static final int KILLER_2 = CAPTURE - 2;
+    private static final int HISTORY_MAX = 1 << 20;
+
+    private final Evaluator evaluator;
+    private final TranspositionTable table;
+    private final MoveGenerator[] generators = new MoveGenerator[MAX_PLY + 1];
+    private final MoveList[] moveLists = new MoveList[MAX_PLY + 1];
+    private final int[][] moveScores = new int[MAX_PLY + 1][256];
+    private final int[][] killers = new int[MAX_PLY + 1][2];
+    // Indexed by moving piece code and destination square
+    private final int[][] history = new int[12][64];
+    private final int[][] pv = new int[MAX_PLY + 1][MAX_PLY + 1];
+    private final int[] pvLength = new int[MAX_PLY + 1];
+
+    private BitboardPosition position;
+    private long nodes;
+    private long nodeLimit;
+    private long deadline;
+    private boolean stopped;
+    private AtomicBoolean sharedStop;
+    // Whether any root move finished searching in the current iteration
+    private boolean rootCompleted;
+
+    public Search(Evaluator evaluator, TranspositionTable table) {
+        this.evaluator = evaluator.newInstance();
+        this.table = table;
+        for (int ply = 0; ply <= MAX_PLY; ply++) {
+            generators[ply] = new MoveGenerator();
+            moveLists[ply] = new MoveList();
+        }
+    }
+
+    public SearchResult search(BitboardPosition position, SearchLimits limits) {
+        table.newSearch();
+        return search(position, limits, new AtomicBoolean(), 0);
+    }
+
+    // One thread of a parallel search: all threads share the table and the stop flag, and
+    // helpers (threadIndex > 0) run until stopped, odd ones one iteration ahead for diversity
+    public SearchResult search(BitboardPosition position, SearchLimits limits, AtomicBoolean stop, int threadIndex) {
+        long start = System.nanoTime();
+        this.position = position;
+        this.nodes = 0;
+        this.stopped = false;
+        this.sharedStop = stop;
+        this.deadline = limits.timeMs() > 0 ? start + limits.timeMs() * 1_000_000L : Long.MAX_VALUE;
+        this.nodeLimit = limits.nodes() > 0 ? limits.nodes() : Long.MAX_VALUE;
+        int maxDepth = limits.depth() > 0 ? Math.min(limits.depth(), MAX_PLY - 1) : MAX_PLY - 1;
+        for (int[] killer : killers) killer[0] = killer[1] = 0;
+        for (int[] row : history) Arrays.fill(row, 0);
+
+        MoveGenerator generator = generators[0];
+        generator.reset(position, position.getSideToMove());
+        MoveList rootMoves = moveLists[0];
+        rootMoves.clear();
+        generator.generate(rootMoves);
+        if (rootMoves.isEmpty()) {
+            int score = generator.isCheck() ? -MATE : 0;
+            return new SearchResult(0, score, 0, 0, System.nanoTime() - start, new int[0]);
+        }
+
+        int bestMove = rootMoves.get(0);
+        int bestScore = evaluator.evaluate(position);
+        int completedDepth = 0;
+        int[] bestPv = {bestMove};
+
+        // --- ITERATIVE DEEPENING ---
+        boolean helper = threadIndex > 0;
+        for (int depth = 1 + (threadIndex & 1); depth <= maxDepth; depth++) {
+            int score = searchRoot(depth, bestMove);
+            if (stopped) {
+                // A move that finished searching in the aborted iteration is still the better choice
+                if (rootCompleted) {
+                    bestMove = pv[0][0];
+                    bestScore = score;
+                    bestPv = Arrays.copyOf(pv[0], pvLength[0]);
+                }
+                break;
+            }
+            bestMove = pv[0][0];
+            bestScore = score;
+            bestPv = Arrays.copyOf(pv[0], pvLength[0]);
+            completedDepth = depth;
+
+            if (helper) continue;
+            if (rootMoves.size() == 1) break;
+            if (Math.abs(score) >= MATE - depth) break;
+            // The next iteration costs several times this one; don't start what cannot finish
+            if (deadline != Long.MAX_VALUE && System.nanoTime() - start > (deadline - start) / 2) break;
+        }
+
+        return new SearchResult(bestMove, bestScore, completedDepth, nodes, System.nanoTime() - start, bestPv);
+    }
+
+    // --- ROOT ---
+
+    private int searchRoot(int depth, int previousBest) {
+        MoveList moves = moveLists[0];
+        int[] scores = moveScores[0];
+        scoreMoves(moves, scores, 0, previousBest);
+        pvLength[0] = 0;
+        rootCompleted = false;
+
+        int alpha = -INFINITY;
+        int beta = INFINITY;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = pickNext(moves, scores, i);
+            evaluator.makeMove(position, move);
+            int score;
+            if (i == 0) {
+                score = -pvs(depth - 1, -beta, -alpha, 1);
+            } else {
+                score = -pvs(depth - 1, -alpha - 1, -alpha, 1);
+                if (score > alpha && !stopped) score = -pvs(depth - 1, -beta, -alpha, 1);
+            }
+            evaluator.unmakeMove(position, move);
+            if (stopped) break;
+
+            rootCompleted = true;
+            if (score > alpha) {
+                alpha = score;
+                updatePv(0, move);
+            }
+        }
+        if (!stopped) table.store(position.getHash(), pv[0][0], alpha, depth, TranspositionTable.EXACT, 0);
+        return alpha;
+    }
+
+    // --- PRINCIPAL VARIATION SEARCH ---
+
+    private int pvs(int depth, int alpha, int beta, int ply) {
+        if (depth <= 0) return quiesce(alpha, beta, ply);
+        pvLength[ply] = ply;
+        if (shouldStop()) return 0;
+        if (ply >= MAX_PLY - 1) return evaluator.evaluate(position);
+        // Any repetition scores as a draw: the side that could avoid it will
+        if (position.isRepetition()) return 0;
+
+        MoveGenerator generator = generators[ply];
+        generator.reset(position, position.getSideToMove());
+        boolean inCheck = generator.isCheck();
+        if (inCheck) depth++; // Check extension
+
+        // --- TRANSPOSITION TABLE ---
+        // Cut off on a deep enough bound outside the PV; otherwise just try its move first
+        long key = position.getHash();
+        long entry = table.probe(key);
+        int hashMove = 0;
+        if (entry != 0) {
+            hashMove = TranspositionTable.move(entry);
+            if (beta - alpha == 1 && TranspositionTable.depth(entry) >= depth) {
+                int score = TranspositionTable.score(entry, ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER && score >= beta)
+                        || (bound == TranspositionTable.UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        MoveList moves = moveLists[ply];
+        moves.clear();
+        generator.generate(moves);
+        if (moves.isEmpty()) return inCheck ? -MATE + ply : 0;
+        if (position.getHalfmoveClock() >= 100) return 0;
+
+        int[] scores = moveScores[ply];
+        scoreMoves(moves, scores, ply, hashMove);
+        int originalAlpha = alpha;
+        int best = -INFINITY;
+        int bestMove = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = pickNext(moves, scores, i);
+            boolean quiet = isQuiet(move);
+            int code = position.pieceAt(Move.from(move));
+
+            evaluator.makeMove(position, move);
+            int score;
+            if (i == 0) {
+                score = -pvs(depth - 1, -beta, -alpha, ply + 1);
+            } else {
+                // Null window first: prove the move is no better than what we have
+                score = -pvs(depth - 1, -alpha - 1, -alpha, ply + 1);
+                if (score > alpha && score < beta) score = -pvs(depth - 1, -beta, -alpha, ply + 1);
+            }
+            evaluator.unmakeMove(position, move);
+            if (stopped) return 0;
+
+            if (score > best) {
+                best = score;
+                bestMove = move;
+            }
+            if (score > alpha) {
+                alpha = score;
+                updatePv(ply, move);
+                if (alpha >= beta) {
+                    if (quiet) rememberCutoff(move, code, depth, ply);
+                    break;
+                }
+            }
+        }
+
+        int bound = best >= beta ? TranspositionTable.LOWER
+                  : best > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER;
+        table.store(key, bestMove, best, depth, bound, ply);
+        return best;
+    }
+
+    // Captures and promotions only until the position is quiet; all evasions when in check
+    private int quiesce(int alpha, int beta, int ply) {
+        pvLength[ply] = ply;
+        if (shouldStop()) return 0;
+        if (ply >= MAX_PLY - 1) return evaluator.evaluate(position);
+
+        MoveGenerator generator = generators[ply];
+        generator.reset(position, position.getSideToMove());
+        boolean inCheck = generator.isCheck();
+        int best = -INFINITY;
+        if (!inCheck) {
+            // Stand pat: the side to move may decline every capture
+            best = evaluator.evaluate(position);
+            if (best >= beta) return best;
+            if (best > alpha) alpha = best;
+        }
+
+        MoveList moves = moveLists[ply];
+        moves.clear();
+        if (inCheck) generator.generate(moves);
+        else generator.generateCaptures(moves);
+        if (inCheck && moves.isEmpty()) return -MATE + ply;
+
+        int[] scores = moveScores[ply];
+        scoreMoves(moves, scores, ply, 0);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = pickNext(moves, scores, i);
+            int promotion = Move.promotion(move);
+            if (!inCheck && promotion != 0 && promotion != QUEEN) continue;
+
+            evaluator.makeMove(position, move);
+            int score = -quiesce(-beta, -alpha, ply + 1);
+            evaluator.unmakeMove(position, move);
+            if (stopped) return 0;
+
+            if (score > best) best = score;
+            if (score > alpha) {
+                alpha = score;
+                if (alpha >= beta) break;
+            }
+        }
+        return best;
+    }
+
+    // --- MOVE ORDERING ---
+
+    private void scoreMoves(MoveList moves, int[] scores, int ply, int first) {
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            int from = Move.from(move);
+            int to = Move.to(move);
+            int victim = Move.flag(move) == Move.EN_PASSANT ? PAWN : position.typeAt(to);
+            if (move == first) {
+                scores[i] = HASH_MOVE;
+            } else if (victim != EMPTY || Move.promotion(move) != 0) {
+                // MVV-LVA: most valuable victim first, cheapest attacker among equals
+                int gain = (victim == EMPTY ? 0 : victim + 1) + Move.promotion(move);
+                scores[i] = CAPTURE + gain * 8 - position.typeAt(from);
+            } else if (move == killers[ply][0]) {
+                scores[i] = KILLER_1;
+            } else if (move == killers[ply][1]) {
+                scores[i] = KILLER_2;
+            } else {
+                scores[i] = history[position.pieceAt(from)][to];
+            }
+        }
+    }
+
+    // Selection sort step: swaps the best remaining move into slot i
+    private static int pickNext(MoveList moves, int[] scores, int i) {
+        int best = i;
+        for (int j = i + 1; j < moves.size(); j++) {
+            if (scores[j] > scores[best]) best = j;
+        }
+        if (best != i) {
+            moves.swap(i, best);
+            int score = scores[i];
+            scores[i] = scores[best];
+            scores[best] = score;
+        }
+        return moves.get(i);
+    }
+
+    private void rememberCutoff(int move, int code, int depth, int ply) {
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+        int[] row = history[code];
+        row[Move.to(move)] += depth * depth;
+        if (row[Move.to(move)] >= HISTORY_MAX) {
+            // Age every entry so history scores stay below the killer band
+            for (int[] entries : history) {
+                for (int i = 0; i < 64; i++) entries[i] >>= 1;
+            }
+        }
+    }
+
+    private boolean isQuiet(int move) {
+        return position.pieceAt(Move.to(move)) == EMPTY && Move.flag(move) != Move.EN_PASSANT && Move.promotion(move) == 0;
+    }
+
+    // --- HELPERS ---
+
+    private void updatePv(int ply, int move) {
+        pv[ply][ply] = move;
+        int childLength = pvLength[ply + 1];
+        for (int i = ply + 1; i < childLength; i++) pv[ply][i] = pv[ply + 1][i];
+        pvLength[ply] = Math.max(childLength, ply + 1);
+    }
+
+    private boolean shouldStop() {
+        nodes++;
+        if (!stopped && (nodes >= nodeLimit || ((nodes & CHECK_INTERVAL) == 0
+                && (sharedStop.get() || System.nanoTime() >= deadline)))) {
+            stopped = true;
+        }
+        return stopped;
+    }
+}
@@ -0,0 +1,16 @@
+package com.chess.engine;
+
+/**
+ * Budget for one search. A value of 0 leaves that limit off; the search stops at
+ * whichever enabled limit is reached first.
+ */
+public record SearchLimits(long timeMs, long nodes, int depth) {
+
+    public static SearchLimits time(long timeMs) {
+        return new SearchLimits(timeMs, 0, 0);
+    }
+
+    public static SearchLimits depth(int depth) {
+        return new SearchLimits(0, 0, depth);
+    }
+}
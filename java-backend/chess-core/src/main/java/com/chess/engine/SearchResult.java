@@ -0,0 +1,22 @@
+package com.chess.engine;
+
+/**
+ * Outcome of a search: best move (0 when the side to move has none), its score in
+ * centipawns for the side to move, the last completed depth and the principal variation.
+ */
+public record SearchResult(int bestMove, int score, int depth, long nodes, long elapsedNanos, int[] pv) {
+
+    public boolean isMateScore() {
+        return Math.abs(score) >= Search.MATE - Search.MAX_PLY;
+    }
+
+    // Moves to mate, positive when the side to move mates, negative when it gets mated
+    public int mateIn() {
+        int plies = Search.MATE - Math.abs(score);
+        return score > 0 ? (plies + 1) / 2 : -(plies / 2);
+    }
+
+    public long nodesPerSecond() {
+        return nodes * 1_000_000_000L / Math.max(1, elapsedNanos);
+    }
+}
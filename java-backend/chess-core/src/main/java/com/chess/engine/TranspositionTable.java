@@ -0,0 +1,111 @@
+package com.chess.engine;
+
+import java.util.Arrays;
+
+/**
+ * Lock-free transposition table shared by every search thread. Each entry is two
+ * longs in one flat array: the Zobrist key XOR the data word, then the data word.
+ * Writers store both words without locking; a reader accepts an entry only if the
+ * two words XOR back to its key, so an entry torn by a racing writer reads as a miss.
+ *
+ * Data word layout:
+ *   bits  0-16  move (see Move)
+ *   bits 17-32  score + 32768
+ *   bits 33-40  depth
+ *   bits 41-42  bound (UPPER, LOWER or EXACT; never 0, so a stored entry is never 0)
+ *   bits 43-50  search generation, used to age out entries from earlier searches
+ */
+public final class TranspositionTable {
+
+    public static final int UPPER = 1;
+    public static final int LOWER = 2;
+    public static final int EXACT = 3;
+
+    private final long[] table;
+    private final int mask;
+    private volatile int generation;
+
+    public TranspositionTable(int megabytes) {
+        long entries = Math.max(1024, (long) megabytes * 1024 * 1024 / 16);
+        int capacity = Integer.highestOneBit((int) Math.min(entries, 1 << 29));
+        this.table = new long[capacity * 2];
+        this.mask = capacity - 1;
+    }
+
+    // Marks the start of a new search so its entries win over older ones of equal depth
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    // Data word for the key, or 0 on a miss
+    public long probe(long key) {
+        int index = index(key);
+        long data = table[index + 1];
+        return (table[index] ^ data) == key ? data : 0L;
+    }
+
+    // Score is relative to the root; mate scores are stored relative to the node (see toStored)
+    public void store(long key, int move, int score, int depth, int bound, int ply) {
+        int index = index(key);
+        long existing = table[index + 1];
+        boolean sameKey = (table[index] ^ existing) == key;
+        // Keep a deeper entry from the current search unless it is for the same position
+        if (!sameKey && existing != 0 && generation(existing) == generation && depth < depth(existing)) return;
+        if (sameKey && move == 0) move = move(existing);
+
+        long data = (move & 0x1FFFFL)
+                  | ((long) (toStored(score, ply) + 32768) << 17)
+                  | ((long) Math.min(Math.max(depth, 0), 255) << 33)
+                  | ((long) bound << 41)
+                  | ((long) generation << 43);
+        table[index] = key ^ data;
+        table[index + 1] = data;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0L);
+    }
+
+    // Share of slots used by the current search, in permille (the UCI "hashfull" measure)
+    public int hashfull() {
+        int sample = Math.min(1000, table.length / 2);
+        int used = 0;
+        for (int i = 0; i < sample; i++) {
+            long data = table[i * 2 + 1];
+            if (data != 0 && generation(data) == generation) used++;
+        }
+        return used * 1000 / sample;
+    }
+
+    // --- DATA WORD ACCESSORS ---
+
+    public static int move(long data) { return (int) (data & 0x1FFFF); }
+    public static int depth(long data) { return (int) ((data >>> 33) & 0xFF); }
+    public static int bound(long data) { return (int) ((data >>> 41) & 3); }
+
+    public static int score(long data, int ply) {
+        int stored = (int) ((data >>> 17) & 0xFFFF) - 32768;
+        return fromStored(stored, ply);
+    }
+
+    // --- HELPERS ---
+
+    private static int generation(long data) { return (int) ((data >>> 43) & 0xFF); }
+
+    private int index(long key) {
+        return ((int) (key ^ (key >>> 32)) & mask) << 1;
+    }
+
+    // Mate scores count plies from the root; in the table they count from the node itself
+    private static int toStored(int score, int ply) {
+        if (score >= Search.MATE - Search.MAX_PLY) return score + ply;
+        if (score <= -Search.MATE + Search.MAX_PLY) return score - ply;
+        return score;
+    }
+
+    private static int fromStored(int score, int ply) {
+        if (score >= Search.MATE - Search.MAX_PLY) return score - ply;
+        if (score <= -Search.MATE + Search.MAX_PLY) return score + ply;
+        return score;
+    }
+}
@@ -0,0 +1,159 @@
+package com.chess.engine.nnue;
+
+import com.chess.engine.Evaluator;
+import com.chess.engine.Search;
+import com.chess.model.BitboardPosition;
+import com.chess.model.Move;
+import java.util.Arrays;
+
+import static com.chess.model.BitboardPosition.*;
+
+/**
+ * NNUE-style evaluation (see NnueNetwork). The first layer's output, the accumulator, is
+ * the sum of the weight rows of the pieces on the board; a move only adds and removes the
+ * rows of the two to four piece-squares it changes, so the search keeps one accumulator
+ * per ply and updates it in makeMove instead of recomputing it. An accumulator that does
+ * not belong to the position (its hash differs) is rebuilt from scratch, so evaluate also
+ * works on positions that were not reached through makeMove.
+ *
+ * Not thread-safe; the search takes one instance per thread from newInstance().
+ */
+public final class NnueEvaluator implements Evaluator {
+
+    // Keeps evaluations clear of the mate scores whatever the weights say
+    private static final int MAX_SCORE = Search.MATE - 2 * Search.MAX_PLY;
+
+    private final NnueNetwork network;
+    private final NnueKernels kernels;
+    private final int hidden;
+
+    // Accumulators of the line being searched, White's perspective then Black's, and the
+    // hash of the position each one was computed for
+    private short[][] accumulators = new short[Search.MAX_PLY + 1][];
+    private long[] keys = new long[Search.MAX_PLY + 1];
+    private int top;
+
+    private final int[] added = new int[2];
+    private final int[] removed = new int[2];
+    private final int[] pieceRows = new int[64];
+    private final int[] input;
+    private final int[] layer1;
+    private final int[] layer2;
+
+    public NnueEvaluator(NnueNetwork network) {
+        this(network, NnueKernels.best());
+    }
+
+    public NnueEvaluator(NnueNetwork network, NnueKernels kernels) {
+        this.network = network;
+        this.kernels = kernels;
+        this.hidden = network.hidden;
+        for (int i = 0; i < accumulators.length; i++) accumulators[i] = new short[2 * hidden];
+        this.input = new int[2 * hidden];
+        this.layer1 = new int[network.layer1];
+        this.layer2 = new int[network.layer2];
+    }
+
+    public NnueKernels getKernels() { return kernels; }
+
+    @Override
+    public Evaluator newInstance() {
+        return new NnueEvaluator(network, kernels);
+    }
+
+    // --- EVALUATION ---
+
+    @Override
+    public int evaluate(BitboardPosition position) {
+        ensureCurrent(position);
+        short[] accumulator = accumulators[top];
+        int us = position.getSideToMove();
+        kernels.activate(accumulator, us * hidden, input, 0, hidden);
+        kernels.activate(accumulator, (us ^ 1) * hidden, input, hidden, hidden);
+
+        dense(input, 2 * hidden, network.weights1, network.bias1, layer1);
+        dense(layer1, network.layer1, network.weights2, network.bias2, layer2);
+        int output = network.outputBias;
+        for (int k = 0; k < network.layer2; k++) output += layer2[k] * network.outputWeights[k];
+        return Math.max(-MAX_SCORE, Math.min(MAX_SCORE, output / NnueNetwork.OUTPUT_SCALE));
+    }
+
+    private void dense(int[] in, int n, int[] weights, int[] bias, int[] out) {
+        System.arraycopy(bias, 0, out, 0, out.length);
+        kernels.affine(in, n, weights, out, out.length);
+        for (int j = 0; j < out.length; j++) {
+            out[j] = Math.max(0, Math.min(NnueNetwork.ACTIVATION_MAX, out[j] >> NnueNetwork.WEIGHT_SHIFT));
+        }
+    }
+
+    // --- INCREMENTAL UPDATES ---
+
+    @Override
+    public void makeMove(BitboardPosition position, int move) {
+        ensureCurrent(position);
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flag = Move.flag(move);
+        int code = position.pieceAt(from);
+        int team = code / 6;
+        int captureSquare = flag == Move.EN_PASSANT ? enPassantCaptureSquare(to, team) : to;
+        int captured = position.pieceAt(captureSquare);
+        int placed = Move.promotion(move) == 0 ? code : team * 6 + Move.promotion(move);
+        position.makeMove(move);
+
+        if (top + 1 == accumulators.length) growStack();
+        short[] parent = accumulators[top];
+        short[] child = accumulators[++top];
+        keys[top] = position.getHash();
+        short[] weights = network.featureWeights;
+        for (int perspective = WHITE; perspective <= BLACK; perspective++) {
+            int addedCount = 0;
+            int removedCount = 0;
+            removed[removedCount++] = row(perspective, code, from);
+            added[addedCount++] = row(perspective, placed, to);
+            if (captured != EMPTY) {
+                removed[removedCount++] = row(perspective, captured, captureSquare);
+            } else if (flag == Move.CASTLING) {
+                int rook = team * 6 + ROOK;
+                removed[removedCount++] = row(perspective, rook, to > from ? from + 3 : from - 4);
+                added[addedCount++] = row(perspective, rook, to > from ? from + 1 : from - 1);
+            }
+            int offset = perspective * hidden;
+            kernels.update(parent, offset, child, offset, weights, added, addedCount, removed, removedCount, hidden);
+        }
+    }
+
+    @Override
+    public void unmakeMove(BitboardPosition position, int move) {
+        position.unmakeMove(move);
+        if (top > 0) top--;
+    }
+
+    private void ensureCurrent(BitboardPosition position) {
+        if (keys[top] == position.getHash() && keys[top] != 0) return;
+        short[] accumulator = accumulators[top];
+        for (int perspective = WHITE; perspective <= BLACK; perspective++) {
+            int count = 0;
+            for (long occupied = position.getOccupied(); occupied != 0; occupied &= occupied - 1) {
+                int square = Long.numberOfTrailingZeros(occupied);
+                pieceRows[count++] = row(perspective, position.pieceAt(square), square);
+            }
+            kernels.update(network.featureBias, 0, accumulator, perspective * hidden, network.featureWeights,
+                    pieceRows, count, pieceRows, 0, hidden);
+        }
+        keys[top] = position.getHash();
+    }
+
+    // Features are seen from each side: its own pieces first, and Black's board flipped vertically
+    private int row(int perspective, int code, int square) {
+        int feature = perspective == WHITE ? code * 64 + square : ((code + 6) % 12) * 64 + (square ^ 56);
+        return feature * hidden;
+    }
+
+    private void growStack() {
+        int size = accumulators.length;
+        accumulators = Arrays.copyOf(accumulators, size * 2);
+        for (int i = size; i < accumulators.length; i++) accumulators[i] = new short[2 * hidden];
+        keys = Arrays.copyOf(keys, size * 2);
+    }
+}
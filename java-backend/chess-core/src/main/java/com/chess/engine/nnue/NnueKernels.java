@@ -0,0 +1,34 @@
+package com.chess.engine.nnue;
+
+/**
+ * The arithmetic of NnueEvaluator. SCALAR is plain Java loops; best() returns the
+ * Vector API implementation when the JVM runs with --add-modules jdk.incubator.vector,
+ * and SCALAR otherwise. Both give bit-identical results.
+ */
+public interface NnueKernels {
+
+    NnueKernels SCALAR = new ScalarKernels();
+
+    static NnueKernels best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return SCALAR;
+        try {
+            // Loaded by name so this class never links against the incubator module when it is absent
+            return (NnueKernels) Class.forName("com.chess.engine.nnue.VectorKernels").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+
+    String name();
+
+    // dst[dstOffset + i] = src[srcOffset + i] + the weight rows at added - the rows at removed, i < n
+    void update(short[] src, int srcOffset, short[] dst, int dstOffset, short[] weights,
+                int[] added, int addedCount, int[] removed, int removedCount, int n);
+
+    // out[outOffset + i] = clamp(acc[accOffset + i], 0, NnueNetwork.ACTIVATION_MAX), i < n
+    void activate(short[] acc, int accOffset, int[] out, int outOffset, int n);
+
+    // out[j] += sum of input[i] * weights[i * m + j] for i < n, j < m. Zero inputs, which
+    // clipping makes common, are skipped
+    void affine(int[] input, int n, int[] weights, int[] out, int m);
+}
@@ -0,0 +1,175 @@
+package com.chess.engine.nnue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/**
+ * Quantized weights of an NNUE-style network: 768 piece-square inputs per perspective
+ * feeding a HIDDEN-wide accumulator, then two small clipped-ReLU layers and one output.
+ *
+ * File format, little-endian as written by numpy's tofile on x86:
+ * <pre>
+ *   "CHESSNN1", int hidden, int layer1, int layer2           header (20 bytes)
+ *   short[768][hidden] feature weights, short[hidden] bias    accumulator, scale 127
+ *   byte[layer1][2 * hidden] weights, int[layer1] bias        scale 64
+ *   byte[layer2][layer1] weights, int[layer2] bias            scale 64
+ *   byte[layer2] weights, int bias                            output, 16 units per centipawn
+ * </pre>
+ * The first layer's input is the side to move's accumulator followed by the opponent's.
+ * Weights are immutable once loaded and shared by every evaluator.
+ */
+public final class NnueNetwork {
+
+    public static final int FEATURES = 768;
+
+    // Activations are clipped to [0, ACTIVATION_MAX]; dense weights are scaled by 1 << WEIGHT_SHIFT
+    static final int ACTIVATION_MAX = 127;
+    static final int WEIGHT_SHIFT = 6;
+    static final int OUTPUT_SCALE = 16;
+
+    private static final byte[] MAGIC = "CHESSNN1".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_BYTES = 20;
+
+    final int hidden;
+    final int layer1;
+    final int layer2;
+    final short[] featureWeights;
+    final short[] featureBias;
+    // Dense weights are widened to int and stored input-major ([input][output]) at load time,
+    // which is how the kernels walk them
+    final int[] weights1;
+    final int[] bias1;
+    final int[] weights2;
+    final int[] bias2;
+    final int[] outputWeights;
+    final int outputBias;
+
+    private NnueNetwork(int hidden, int layer1, int layer2, short[] featureWeights, short[] featureBias,
+                        int[] weights1, int[] bias1, int[] weights2, int[] bias2, int[] outputWeights, int outputBias) {
+        this.hidden = hidden;
+        this.layer1 = layer1;
+        this.layer2 = layer2;
+        this.featureWeights = featureWeights;
+        this.featureBias = featureBias;
+        this.weights1 = weights1;
+        this.bias1 = bias1;
+        this.weights2 = weights2;
+        this.bias2 = bias2;
+        this.outputWeights = outputWeights;
+        this.outputBias = outputBias;
+    }
+
+    public int getHidden() { return hidden; }
+
+    // --- LOADING ---
+
+    public static NnueNetwork load(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) throw new IOException("Not a network file: " + file);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(i) != MAGIC[i]) throw new IOException("Not a network file: " + file);
+        }
+        buffer.position(MAGIC.length);
+        int hidden = buffer.getInt();
+        int layer1 = buffer.getInt();
+        int layer2 = buffer.getInt();
+        if (hidden <= 0 || hidden > 4096 || layer1 <= 0 || layer1 > 1024 || layer2 <= 0 || layer2 > 1024) {
+            throw new IOException("Unsupported network shape " + hidden + "x" + layer1 + "x" + layer2 + ": " + file);
+        }
+        if (buffer.capacity() != size(hidden, layer1, layer2)) {
+            throw new IOException("Network file size does not match its shape " + hidden + "x" + layer1 + "x" + layer2 + ": " + file);
+        }
+
+        short[] featureWeights = new short[FEATURES * hidden];
+        short[] featureBias = new short[hidden];
+        buffer.asShortBuffer().get(featureWeights).get(featureBias);
+        buffer.position(buffer.position() + 2 * (featureWeights.length + featureBias.length));
+        int[] weights1 = transpose(bytes(buffer, layer1 * 2 * hidden), layer1, 2 * hidden);
+        int[] bias1 = ints(buffer, layer1);
+        int[] weights2 = transpose(bytes(buffer, layer2 * layer1), layer2, layer1);
+        int[] bias2 = ints(buffer, layer2);
+        int[] outputWeights = bytes(buffer, layer2);
+        int outputBias = buffer.getInt();
+        return new NnueNetwork(hidden, layer1, layer2, featureWeights, featureBias,
+                weights1, bias1, weights2, bias2, outputWeights, outputBias);
+    }
+
+    public void write(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size(hidden, layer1, layer2))).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(MAGIC).putInt(hidden).putInt(layer1).putInt(layer2);
+        for (short w : featureWeights) buffer.putShort(w);
+        for (short b : featureBias) buffer.putShort(b);
+        for (int w : transpose(weights1, 2 * hidden, layer1)) buffer.put((byte) w);
+        for (int b : bias1) buffer.putInt(b);
+        for (int w : transpose(weights2, layer1, layer2)) buffer.put((byte) w);
+        for (int b : bias2) buffer.putInt(b);
+        for (int w : outputWeights) buffer.put((byte) w);
+        buffer.putInt(outputBias).flip();
+        // Written under a temporary name and moved into place, so a reader never loads half a network
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Untrained weights of the given shape. They play nonsense and only serve to measure speed
+    public static NnueNetwork random(long seed, int hidden, int layer1, int layer2) {
+        Random random = new Random(seed);
+        short[] featureWeights = new short[FEATURES * hidden];
+        for (int i = 0; i < featureWeights.length; i++) featureWeights[i] = (short) (random.nextInt(33) - 16);
+        short[] featureBias = new short[hidden];
+        for (int i = 0; i < hidden; i++) featureBias[i] = (short) random.nextInt(64);
+        return new NnueNetwork(hidden, layer1, layer2, featureWeights, featureBias,
+                randomBytes(random, layer1 * 2 * hidden), new int[layer1],
+                randomBytes(random, layer2 * layer1), new int[layer2],
+                randomBytes(random, layer2), 0);
+    }
+
+    // --- HELPERS ---
+
+    private static long size(int hidden, int layer1, int layer2) {
+        return HEADER_BYTES + 2L * (FEATURES + 1) * hidden
+                + (long) layer1 * 2 * hidden + 4L * layer1
+                + (long) layer2 * layer1 + 4L * layer2
+                + layer2 + 4;
+    }
+
+    private static int[] transpose(int[] matrix, int rows, int columns) {
+        int[] transposed = new int[matrix.length];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) transposed[c * rows + r] = matrix[r * columns + c];
+        }
+        return transposed;
+    }
+
+    private static int[] bytes(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) values[i] = buffer.get();
+        return values;
+    }
+
+    private static int[] ints(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) values[i] = buffer.getInt();
+        return values;
+    }
+
+    private static int[] randomBytes(Random random, int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) values[i] = random.nextInt(255) - 127;
+        return values;
+    }
+}
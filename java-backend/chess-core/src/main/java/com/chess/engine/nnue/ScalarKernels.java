@@ -0,0 +1,40 @@
+package com.chess.engine.nnue;
+
+final class ScalarKernels implements NnueKernels {
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void update(short[] src, int srcOffset, short[] dst, int dstOffset, short[] weights,
+                       int[] added, int addedCount, int[] removed, int removedCount, int n) {
+        System.arraycopy(src, srcOffset, dst, dstOffset, n);
+        for (int f = 0; f < addedCount; f++) {
+            int row = added[f];
+            for (int i = 0; i < n; i++) dst[dstOffset + i] += weights[row + i];
+        }
+        for (int f = 0; f < removedCount; f++) {
+            int row = removed[f];
+            for (int i = 0; i < n; i++) dst[dstOffset + i] -= weights[row + i];
+        }
+    }
+
+    @Override
+    public void activate(short[] acc, int accOffset, int[] out, int outOffset, int n) {
+        for (int i = 0; i < n; i++) {
+            out[outOffset + i] = Math.max(0, Math.min(NnueNetwork.ACTIVATION_MAX, acc[accOffset + i]));
+        }
+    }
+
+    @Override
+    public void affine(int[] input, int n, int[] weights, int[] out, int m) {
+        for (int i = 0; i < n; i++) {
+            int a = input[i];
+            if (a == 0) continue;
+            int row = i * m;
+            for (int j = 0; j < m; j++) out[j] += a * weights[row + j];
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.chess.engine.nnue;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * NnueKernels on the JDK Vector API, at the platform's preferred vector width. Only
+ * instantiated through NnueKernels.best(). Tails shorter than one vector run scalar.
+ */
+final class VectorKernels implements NnueKernels {
+
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    // Shorts with as many lanes as INTS, so activations widen lane for lane
+    private static final VectorSpecies<Short> HALF_SHORTS =
+            VectorSpecies.of(short.class, VectorShape.forBitSize(Math.max(64, INTS.vectorBitSize() / 2)));
+
+    private static final short ACTIVATION_MAX = (short) NnueNetwork.ACTIVATION_MAX;
+
+    @Override
+    public String name() {
+        return "vector-" + INTS.vectorBitSize();
+    }
+
+    // One pass per weight row: a vector kept live across a loop over the rows is not
+    // reliably kept in a register by the JIT
+    @Override
+    public void update(short[] src, int srcOffset, short[] dst, int dstOffset, short[] weights,
+                       int[] added, int addedCount, int[] removed, int removedCount, int n) {
+        if (addedCount > 0) {
+            add(src, srcOffset, dst, dstOffset, weights, added[0], n);
+        } else {
+            System.arraycopy(src, srcOffset, dst, dstOffset, n);
+        }
+        for (int f = 1; f < addedCount; f++) add(dst, dstOffset, dst, dstOffset, weights, added[f], n);
+        for (int f = 0; f < removedCount; f++) subtract(dst, dstOffset, weights, removed[f], n);
+    }
+
+    private static void add(short[] src, int srcOffset, short[] dst, int dstOffset, short[] weights, int row, int n) {
+        int bound = SHORTS.loopBound(n);
+        int i = 0;
+        for (; i < bound; i += SHORTS.length()) {
+            ShortVector.fromArray(SHORTS, src, srcOffset + i)
+                    .add(ShortVector.fromArray(SHORTS, weights, row + i))
+                    .intoArray(dst, dstOffset + i);
+        }
+        for (; i < n; i++) dst[dstOffset + i] = (short) (src[srcOffset + i] + weights[row + i]);
+    }
+
+    private static void subtract(short[] dst, int dstOffset, short[] weights, int row, int n) {
+        int bound = SHORTS.loopBound(n);
+        int i = 0;
+        for (; i < bound; i += SHORTS.length()) {
+            ShortVector.fromArray(SHORTS, dst, dstOffset + i)
+                    .sub(ShortVector.fromArray(SHORTS, weights, row + i))
+                    .intoArray(dst, dstOffset + i);
+        }
+        for (; i < n; i++) dst[dstOffset + i] -= weights[row + i];
+    }
+
+    @Override
+    public void activate(short[] acc, int accOffset, int[] out, int outOffset, int n) {
+        if (HALF_SHORTS.length() != INTS.length()) {
+            NnueKernels.SCALAR.activate(acc, accOffset, out, outOffset, n);
+            return;
+        }
+        int bound = HALF_SHORTS.loopBound(n);
+        int i = 0;
+        for (; i < bound; i += HALF_SHORTS.length()) {
+            ShortVector v = ShortVector.fromArray(HALF_SHORTS, acc, accOffset + i)
+                    .max((short) 0).min(ACTIVATION_MAX);
+            ((IntVector) v.convertShape(VectorOperators.S2I, INTS, 0)).intoArray(out, outOffset + i);
+        }
+        for (; i < n; i++) {
+            out[outOffset + i] = Math.max(0, Math.min(NnueNetwork.ACTIVATION_MAX, acc[accOffset + i]));
+        }
+    }
+
+    // Input-major, so zero inputs skip a whole weight row; the sums stay in out for the same
+    // reason as in update
+    @Override
+    public void affine(int[] input, int n, int[] weights, int[] out, int m) {
+        int bound = INTS.loopBound(m);
+        for (int i = 0; i < n; i++) {
+            int a = input[i];
+            if (a == 0) continue;
+            int row = i * m;
+            int j = 0;
+            for (; j < bound; j += INTS.length()) {
+                IntVector w = IntVector.fromArray(INTS, weights, row + j);
+                w.mul(a).add(IntVector.fromArray(INTS, out, j)).intoArray(out, j);
+            }
+            for (; j < m; j++) out[j] += a * weights[row + j];
+        }
+    }
+}
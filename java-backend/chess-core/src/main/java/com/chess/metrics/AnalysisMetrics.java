@@ -0,0 +1,121 @@
+package com.chess.metrics;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.PieceType;
+import com.chess.rules.PositionAnalysis;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-phase timers and counters for the /analyze pipeline, read through /metrics.
+ *
+ * The pipeline takes a timestamp per phase: start() at the top, then lap() at the end of
+ * each phase, which records the time since the previous timestamp and returns the new
+ * one. With chess.metrics.enabled=false both return 0 without reading the clock and
+ * nothing else is recorded, so the remaining cost is one predictable branch per call
+ * (compare AnalyzeBenchmark with metrics on and off).
+ */
+public class AnalysisMetrics {
+
+    public enum Phase {
+        PARSE("parse"),
+        // Legal moves of the mover, shared by the king safety check and the possible moves
+        MOVE_GENERATION("moveGeneration"),
+        KING_CAPTURE("kingCapture"),
+        GEOMETRY("geometry"),
+        KING_SAFETY("kingSafety"),
+        POSSIBLE_MOVES("possibleMoves"),
+        // Playing the move and analysing the opponent: check, checkmate, stalemate
+        GAME_STATUS("gameStatus"),
+        RESPONSE("response");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    private final boolean enabled;
+    private final Histogram[] phases = new Histogram[Phase.values().length];
+    private final Histogram total = new Histogram();
+    private final Histogram candidateMoves = new Histogram();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder invalidMoves = new LongAdder();
+    private final LongAdder[] pieceTypes = new LongAdder[BitboardPosition.KING + 1];
+    private final Map<String, LongAdder> invalidReasons = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public AnalysisMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (int i = 0; i < phases.length; i++) phases[i] = new Histogram();
+        for (int i = 0; i < pieceTypes.length; i++) pieceTypes[i] = new LongAdder();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // --- 1. RECORDING ---
+
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    // Records the phase as ending now and returns the start of the next one
+    public long lap(Phase phase, long since) {
+        if (!enabled) return 0L;
+        long now = System.nanoTime();
+        phases[phase.ordinal()].record(now - since);
+        return now;
+    }
+
+    // One finished request: total time, moved piece, invalid reason (null if valid) and the
+    // candidate moves enumerated for both sides
+    public void finish(long start, PieceType pieceType, String invalidReason, PositionAnalysis mover, PositionAnalysis opponent) {
+        if (!enabled) return;
+        total.record(System.nanoTime() - start);
+        requests.increment();
+        if (pieceType != null) pieceTypes[pieceType.index()].increment();
+        if (invalidReason != null) {
+            invalidMoves.increment();
+            invalidReasons.computeIfAbsent(invalidReason, reason -> new LongAdder()).increment();
+        }
+        candidateMoves.record(mover.getMoveCount() + (opponent != null ? opponent.getMoveCount() : 0));
+    }
+
+    public void error(Throwable e) {
+        if (!enabled) return;
+        errors.computeIfAbsent(e.getClass().getSimpleName(), name -> new LongAdder()).increment();
+    }
+
+    // --- 2. READING ---
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("requests", requests.sum());
+        stats.put("invalidMoves", invalidMoves.sum());
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("total", total.snapshot(1000.0));
+        for (Phase phase : Phase.values()) latency.put(phase.label, phases[phase.ordinal()].snapshot(1000.0));
+        stats.put("latencyMicros", latency);
+
+        Map<String, Long> pieces = new LinkedHashMap<>();
+        for (int i = 0; i < pieceTypes.length; i++) pieces.put(BitboardPosition.typeName(i), pieceTypes[i].sum());
+        stats.put("pieceTypes", pieces);
+        stats.put("invalidReasons", sums(invalidReasons));
+        stats.put("errors", sums(errors));
+        stats.put("candidateMoves", candidateMoves.snapshot(1.0));
+        return stats;
+    }
+
+    private static Map<String, Long> sums(Map<String, LongAdder> counters) {
+        Map<String, Long> sums = new LinkedHashMap<>();
+        counters.forEach((name, counter) -> sums.put(name, counter.sum()));
+        return sums;
+    }
+}
@@ -0,0 +1,77 @@
+package com.chess.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative longs with log-linear buckets: four buckets per
+ * power of two, so a reported percentile is within 25% of the true value. Recording is
+ * one bucket-index computation and a few uncontended atomic updates, cheap enough for every
+ * request; percentiles are only computed when the stats are read.
+ */
+public final class Histogram {
+
+    private static final int BUCKETS = 256;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public Histogram() {
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+    }
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+        buckets[bucket(value)].increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    // Count, mean, p50/p90/p99 and max, each divided by `scale` (e.g. 1000 for ns -> us)
+    public Map<String, Object> snapshot(double scale) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", total);
+        stats.put("mean", total == 0 ? 0.0 : sum.sum() / (double) total / scale);
+        stats.put("p50", percentile(counts, total, 0.50) / scale);
+        stats.put("p90", percentile(counts, total, 0.90) / scale);
+        stats.put("p99", percentile(counts, total, 0.99) / scale);
+        stats.put("max", max.get() / scale);
+        return stats;
+    }
+
+    // --- BUCKETS ---
+
+    // 0-3 map to themselves; above that, the power of two plus the next two bits
+    private static int bucket(long value) {
+        if (value < 4) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - 2)) & 3;
+        return (exponent - 1) * 4 + sub;
+    }
+
+    // Midpoint of the bucket holding the requested rank
+    private static double percentile(long[] counts, long total, double fraction) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(fraction * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                if (i < 4) return i;
+                int exponent = i / 4 + 1;
+                long lower = (long) (4 + i % 4) << (exponent - 2);
+                return lower + ((1L << (exponent - 2)) - 1) / 2.0;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,82 @@
+package com.chess.model;
+
+import com.chess.rules.Bitboards;
+
+/**
+ * Per-side attack maps kept in step with a BitboardPosition: the attack set of every
+ * piece, the number of attackers per square and side, and the resulting attacked-square
+ * masks. BitboardPosition reports each piece placed or lifted; only that piece and the
+ * sliders whose rays cross the square are recomputed, and only their changed squares
+ * touch the counters.
+ */
+final class AttackMap {
+
+    // Attack set of the piece standing on each square (0 for empty squares)
+    private final long[] attacksFrom = new long[64];
+    // Attacker count indexed by team * 64 + square
+    private final byte[] counts = new byte[128];
+    private final long[] attacked = new long[2];
+
+    void pieceAdded(int square, int code, long occupied) {
+        setAttacks(square, code / 6, attacks(code, square, occupied));
+    }
+
+    void pieceRemoved(int square, int code) {
+        setAttacks(square, code / 6, 0L);
+    }
+
+    // A square was filled or emptied: sliders that see it now stop on it or run past it
+    void occupancyChanged(int square, long occupied, long rookSliders, long bishopSliders, byte[] mailbox) {
+        long affected = (Bitboards.rookAttacks(square, occupied) & rookSliders)
+                      | (Bitboards.bishopAttacks(square, occupied) & bishopSliders);
+        while (affected != 0) {
+            int slider = Long.numberOfTrailingZeros(affected);
+            affected &= affected - 1;
+            int code = mailbox[slider];
+            setAttacks(slider, code / 6, attacks(code, slider, occupied));
+        }
+    }
+
+    long attacked(int team) { return attacked[team]; }
+    int count(int team, int square) { return counts[team * 64 + square]; }
+    long attacksFrom(int square) { return attacksFrom[square]; }
+
+    void copyTo(AttackMap target) {
+        System.arraycopy(attacksFrom, 0, target.attacksFrom, 0, 64);
+        System.arraycopy(counts, 0, target.counts, 0, 128);
+        target.attacked[0] = attacked[0];
+        target.attacked[1] = attacked[1];
+    }
+
+    // --- HELPERS ---
+
+    private void setAttacks(int square, int team, long attacks) {
+        long previous = attacksFrom[square];
+        attacksFrom[square] = attacks;
+        int base = team * 64;
+        long gained = attacks & ~previous;
+        while (gained != 0) {
+            int target = Long.numberOfTrailingZeros(gained);
+            gained &= gained - 1;
+            if (counts[base + target]++ == 0) attacked[team] |= 1L << target;
+        }
+        long lost = previous & ~attacks;
+        while (lost != 0) {
+            int target = Long.numberOfTrailingZeros(lost);
+            lost &= lost - 1;
+            if (--counts[base + target] == 0) attacked[team] &= ~(1L << target);
+        }
+    }
+
+    private static long attacks(int code, int square, long occupied) {
+        switch (code % 6) {
+            case BitboardPosition.PAWN: return Bitboards.PAWN_ATTACKS[code / 6][square];
+            case BitboardPosition.KNIGHT: return Bitboards.KNIGHT_ATTACKS[square];
+            case BitboardPosition.BISHOP: return Bitboards.bishopAttacks(square, occupied);
+            case BitboardPosition.ROOK: return Bitboards.rookAttacks(square, occupied);
+            case BitboardPosition.QUEEN: return Bitboards.queenAttacks(square, occupied);
+            case BitboardPosition.KING: return Bitboards.KING_ATTACKS[square];
+            default: return 0L;
+        }
+    }
+}
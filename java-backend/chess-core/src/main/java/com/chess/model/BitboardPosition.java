@@ -0,0 +1,394 @@
+package com.chess.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bitboard representation of a board: one 64-bit set per piece type and team,
+ * plus per-team occupancy and a square-indexed mailbox for O(1) lookups.
+ * Per-side attack maps are maintained alongside (see AttackMap), so "is this square
+ * attacked" never needs a scan.
+ * Squares are indexed as y * 8 + x, matching Square coordinates.
+ */
+public class BitboardPosition {
+
+    public static final int WHITE = 0;
+    public static final int BLACK = 1;
+
+    public static final int PAWN = 0;
+    public static final int KNIGHT = 1;
+    public static final int BISHOP = 2;
+    public static final int ROOK = 3;
+    public static final int QUEEN = 4;
+    public static final int KING = 5;
+
+    public static final int EMPTY = -1;
+
+    // Castling rights bits
+    public static final int WHITE_KINGSIDE = 1;
+    public static final int WHITE_QUEENSIDE = 2;
+    public static final int BLACK_KINGSIDE = 4;
+    public static final int BLACK_QUEENSIDE = 8;
+
+    // Rights that survive a move touching a square (king and rook home squares clear theirs)
+    private static final int[] CASTLING_MASK = new int[64];
+
+    static {
+        Arrays.fill(CASTLING_MASK, 15);
+        CASTLING_MASK[0] = 15 & ~WHITE_QUEENSIDE;
+        CASTLING_MASK[7] = 15 & ~WHITE_KINGSIDE;
+        CASTLING_MASK[4] = 15 & ~(WHITE_KINGSIDE | WHITE_QUEENSIDE);
+        CASTLING_MASK[56] = 15 & ~BLACK_QUEENSIDE;
+        CASTLING_MASK[63] = 15 & ~BLACK_KINGSIDE;
+        CASTLING_MASK[60] = 15 & ~(BLACK_KINGSIDE | BLACK_QUEENSIDE);
+    }
+
+    // The clock shares the packed undo entry with the other state
+    private static final int MAX_HALFMOVE_CLOCK = 0xFFFF;
+
+    // Indexed by team * 6 + type
+    private final long[] pieces = new long[12];
+    private final long[] occupancy = new long[2];
+    private long occupied;
+    // Squares holding a piece whose hasMoved flag is set
+    private long moved;
+    // Piece code (team * 6 + type) per square, or EMPTY
+    private final byte[] mailbox = new byte[64];
+    private int sideToMove = WHITE;
+    private int castlingRights;
+    // Square a pawn may capture onto en passant, or -1
+    private int enPassantSquare = -1;
+    // Plies since the last capture or pawn move (fifty-move rule)
+    private int halfmoveClock;
+    // Incrementally maintained Zobrist key (see Zobrist)
+    private long hash;
+    private final AttackMap attackMap = new AttackMap();
+
+    // Undo stack for makeMove/unmakeMove: one packed int (captured piece, castling
+    // rights, en passant square, halfmove clock), the previous hasMoved set and the
+    // previous hash per ply. The hashes double as the repetition history.
+    private int[] undoState = new int[64];
+    private long[] undoMoved = new long[64];
+    private long[] undoHash = new long[64];
+    private int ply;
+
+    public BitboardPosition() {
+        Arrays.fill(mailbox, (byte) EMPTY);
+    }
+
+    // --- CONVERSION ---
+
+    public static BitboardPosition fromPieces(List<Piece> boardState) {
+        BitboardPosition position = new BitboardPosition();
+        for (Piece p : boardState) {
+            position.put(p.getSquare().index(), p.getTeam().index(), p.getType().index(), p.isHasMoved());
+        }
+        position.setCastlingRights(position.deriveCastlingRights());
+        return position;
+    }
+
+    public static BitboardPosition fromBoard(Board board) {
+        return fromPieces(board.getPieces());
+    }
+
+    public List<Piece> toPieces() {
+        List<Piece> result = new ArrayList<>(Long.bitCount(occupied));
+        long remaining = occupied;
+        while (remaining != 0) {
+            int square = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            int code = mailbox[square];
+            result.add(new Piece(Square.of(square), PieceType.of(code % 6), Team.of(code / 6), hasMoved(square)));
+        }
+        return result;
+    }
+
+    public static String typeName(int type) {
+        return PieceType.of(type).getName();
+    }
+
+    public static String teamName(int team) {
+        return Team.of(team).getName();
+    }
+
+    // --- MUTATION ---
+
+    public void put(int square, int team, int type, boolean hasMoved) {
+        if (mailbox[square] != EMPTY) remove(square);
+        hash ^= Zobrist.pieceKey(team * 6 + type, square, hasMoved);
+        setSquare(square, team * 6 + type);
+        if (hasMoved) moved |= 1L << square;
+    }
+
+    public void remove(int square) {
+        int code = mailbox[square];
+        if (code == EMPTY) return;
+        hash ^= Zobrist.pieceKey(code, square, hasMoved(square));
+        clearSquare(square, code);
+        moved &= ~(1L << square);
+    }
+
+    // --- MAKE / UNMAKE ---
+
+    // Full move encoding for a from/to pair on this position: flags castling (king moving two
+    // files) and en passant, and defaults a pawn reaching the last rank to a queen promotion
+    public int encodeMove(int from, int to, int promotion) {
+        int code = mailbox[from];
+        if (code % 6 == KING && Math.abs(to - from) == 2) return Move.of(from, to, 0, Move.CASTLING);
+        if (code % 6 != PAWN) return Move.of(from, to);
+        if (to == enPassantSquare && (to & 7) != (from & 7)) return Move.of(from, to, 0, Move.EN_PASSANT);
+        int lastRank = code / 6 == WHITE ? 7 : 0;
+        if (to >>> 3 == lastRank) return Move.of(from, to, promotion == 0 ? QUEEN : promotion, Move.NORMAL);
+        return Move.of(from, to);
+    }
+
+    // Plays a move in place, recording everything needed to take it back on the undo stack
+    public void makeMove(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flag = Move.flag(move);
+        int code = mailbox[from];
+        int team = code / 6;
+        int captureSquare = flag == Move.EN_PASSANT ? enPassantCaptureSquare(to, team) : to;
+        int captured = mailbox[captureSquare];
+
+        if (ply == undoState.length) growUndoStack();
+        undoState[ply] = (captured + 1) | (castlingRights << 5) | ((enPassantSquare + 1) << 9) | (halfmoveClock << 16);
+        undoMoved[ply] = moved;
+        undoHash[ply] = hash;
+        ply++;
+
+        int promotion = Move.promotion(move);
+        int placed = promotion == 0 ? code : team * 6 + promotion;
+        long key = hash ^ Zobrist.pieceKey(code, from, hasMoved(from)) ^ Zobrist.pieceKey(placed, to, true);
+        if (captured != EMPTY) {
+            key ^= Zobrist.pieceKey(captured, captureSquare, hasMoved(captureSquare));
+            clearSquare(captureSquare, captured);
+        }
+        clearSquare(from, code);
+        setSquare(to, placed);
+        moved = (moved & ~(1L << from) & ~(1L << captureSquare)) | (1L << to);
+
+        if (flag == Move.CASTLING) {
+            int rookFrom = to > from ? from + 3 : from - 4;
+            int rookTo = to > from ? from + 1 : from - 1;
+            int rook = team * 6 + ROOK;
+            key ^= Zobrist.pieceKey(rook, rookFrom, hasMoved(rookFrom)) ^ Zobrist.pieceKey(rook, rookTo, true);
+            clearSquare(rookFrom, rook);
+            setSquare(rookTo, rook);
+            moved = (moved & ~(1L << rookFrom)) | (1L << rookTo);
+        }
+
+        int rights = castlingRights & CASTLING_MASK[from] & CASTLING_MASK[to];
+        int enPassant = code % 6 == PAWN && Math.abs(to - from) == 16 ? (from + to) >>> 1 : -1;
+        key ^= Zobrist.CASTLING[castlingRights] ^ Zobrist.CASTLING[rights];
+        key ^= Zobrist.enPassantKey(enPassantSquare) ^ Zobrist.enPassantKey(enPassant);
+        castlingRights = rights;
+        enPassantSquare = enPassant;
+        halfmoveClock = captured != EMPTY || code % 6 == PAWN ? 0 : Math.min(halfmoveClock + 1, MAX_HALFMOVE_CLOCK);
+        sideToMove ^= 1;
+        hash = key ^ Zobrist.BLACK_TO_MOVE;
+    }
+
+    // Takes back the last move made with makeMove (the same move must be passed in)
+    public void unmakeMove(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flag = Move.flag(move);
+        ply--;
+        int state = undoState[ply];
+        int placed = mailbox[to];
+        int team = placed / 6;
+        int code = Move.promotion(move) == 0 ? placed : team * 6 + PAWN;
+        int captured = (state & 31) - 1;
+
+        clearSquare(to, placed);
+        setSquare(from, code);
+        if (captured != EMPTY) {
+            setSquare(flag == Move.EN_PASSANT ? enPassantCaptureSquare(to, team) : to, captured);
+        }
+        if (flag == Move.CASTLING) {
+            int rookFrom = to > from ? from + 3 : from - 4;
+            int rookTo = to > from ? from + 1 : from - 1;
+            clearSquare(rookTo, team * 6 + ROOK);
+            setSquare(rookFrom, team * 6 + ROOK);
+        }
+
+        moved = undoMoved[ply];
+        hash = undoHash[ply];
+        castlingRights = (state >>> 5) & 15;
+        enPassantSquare = ((state >>> 9) & 127) - 1;
+        halfmoveClock = state >>> 16;
+        sideToMove ^= 1;
+    }
+
+    // The pawn taken en passant stands one rank behind the destination, from the capturer's view
+    public static int enPassantCaptureSquare(int to, int team) {
+        return team == WHITE ? to - 8 : to + 8;
+    }
+
+    // Every placement and removal goes through these two, which keeps the attack maps in step
+    private void setSquare(int square, int code) {
+        long bit = 1L << square;
+        pieces[code] |= bit;
+        occupancy[code / 6] |= bit;
+        occupied |= bit;
+        mailbox[square] = (byte) code;
+        attackMap.occupancyChanged(square, occupied, rookSliders(), bishopSliders(), mailbox);
+        attackMap.pieceAdded(square, code, occupied);
+    }
+
+    private void clearSquare(int square, int code) {
+        attackMap.pieceRemoved(square, code);
+        long clear = ~(1L << square);
+        pieces[code] &= clear;
+        occupancy[code / 6] &= clear;
+        occupied &= clear;
+        mailbox[square] = (byte) EMPTY;
+        attackMap.occupancyChanged(square, occupied, rookSliders(), bishopSliders(), mailbox);
+    }
+
+    private long rookSliders() {
+        return pieces[ROOK] | pieces[QUEEN] | pieces[6 + ROOK] | pieces[6 + QUEEN];
+    }
+
+    private long bishopSliders() {
+        return pieces[BISHOP] | pieces[QUEEN] | pieces[6 + BISHOP] | pieces[6 + QUEEN];
+    }
+
+    private void growUndoStack() {
+        undoState = Arrays.copyOf(undoState, undoState.length * 2);
+        undoMoved = Arrays.copyOf(undoMoved, undoMoved.length * 2);
+        undoHash = Arrays.copyOf(undoHash, undoHash.length * 2);
+    }
+
+    // The List<Piece> model has no castling flags: a right exists while king and rook are unmoved at home
+    public int deriveCastlingRights() {
+        int rights = 0;
+        if (isUnmoved(4, KING) && isUnmoved(7, ROOK)) rights |= WHITE_KINGSIDE;
+        if (isUnmoved(4, KING) && isUnmoved(0, ROOK)) rights |= WHITE_QUEENSIDE;
+        if (isUnmoved(60, BLACK * 6 + KING) && isUnmoved(63, BLACK * 6 + ROOK)) rights |= BLACK_KINGSIDE;
+        if (isUnmoved(60, BLACK * 6 + KING) && isUnmoved(56, BLACK * 6 + ROOK)) rights |= BLACK_QUEENSIDE;
+        return rights;
+    }
+
+    private boolean isUnmoved(int square, int code) {
+        return mailbox[square] == code && !hasMoved(square);
+    }
+
+    public BitboardPosition copy() {
+        BitboardPosition copy = new BitboardPosition();
+        System.arraycopy(pieces, 0, copy.pieces, 0, pieces.length);
+        System.arraycopy(occupancy, 0, copy.occupancy, 0, occupancy.length);
+        System.arraycopy(mailbox, 0, copy.mailbox, 0, mailbox.length);
+        copy.occupied = occupied;
+        copy.moved = moved;
+        copy.sideToMove = sideToMove;
+        copy.castlingRights = castlingRights;
+        copy.enPassantSquare = enPassantSquare;
+        copy.halfmoveClock = halfmoveClock;
+        copy.hash = hash;
+        // The undo stack comes along so the copy sees the same repetition history
+        copy.undoState = undoState.clone();
+        copy.undoMoved = undoMoved.clone();
+        copy.undoHash = undoHash.clone();
+        copy.ply = ply;
+        attackMap.copyTo(copy.attackMap);
+        return copy;
+    }
+
+    // --- QUERIES ---
+
+    public long getPieces(int team, int type) { return pieces[team * 6 + type]; }
+    public long getOccupancy(int team) { return occupancy[team]; }
+    public long getOccupied() { return occupied; }
+    public long getMoved() { return moved; }
+
+    public boolean hasMoved(int square) { return (moved & (1L << square)) != 0; }
+
+    // Attack maps: squares attacked by a team (own pieces included, i.e. defended squares),
+    // the number of that team's attackers on a square, and the attack set of one piece
+    public long getAttacked(int team) { return attackMap.attacked(team); }
+    public boolean isAttacked(int square, int byTeam) { return (attackMap.attacked(byTeam) & (1L << square)) != 0; }
+    public int attackerCount(int square, int byTeam) { return attackMap.count(byTeam, square); }
+    public long getAttacksFrom(int square) { return attackMap.attacksFrom(square); }
+
+    // Piece code (team * 6 + type) or EMPTY
+    public int pieceAt(int square) { return mailbox[square]; }
+    public int typeAt(int square) { return mailbox[square] == EMPTY ? EMPTY : mailbox[square] % 6; }
+    public int teamAt(int square) { return mailbox[square] == EMPTY ? EMPTY : mailbox[square] / 6; }
+
+    // Returns -1 when the team has no king on the board
+    public int kingSquare(int team) {
+        long king = pieces[team * 6 + KING];
+        return king == 0 ? -1 : Long.numberOfTrailingZeros(king);
+    }
+
+    public int getSideToMove() { return sideToMove; }
+
+    public void setSideToMove(int sideToMove) {
+        if (sideToMove != this.sideToMove) hash ^= Zobrist.BLACK_TO_MOVE;
+        this.sideToMove = sideToMove;
+    }
+
+    public int getCastlingRights() { return castlingRights; }
+
+    public void setCastlingRights(int castlingRights) {
+        hash ^= Zobrist.CASTLING[this.castlingRights] ^ Zobrist.CASTLING[castlingRights];
+        this.castlingRights = castlingRights;
+    }
+
+    public int getEnPassantSquare() { return enPassantSquare; }
+
+    public void setEnPassantSquare(int enPassantSquare) {
+        hash ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.enPassantKey(enPassantSquare);
+        this.enPassantSquare = enPassantSquare;
+    }
+
+    public int getHalfmoveClock() { return halfmoveClock; }
+
+    public void setHalfmoveClock(int halfmoveClock) {
+        this.halfmoveClock = Math.max(0, Math.min(halfmoveClock, MAX_HALFMOVE_CLOCK));
+    }
+
+    // --- REPETITION ---
+
+    // Earlier occurrences of the current position among the positions played through
+    // makeMove. Only positions with the same side to move since the last capture or pawn
+    // move can match, so the scan stops at the halfmove clock.
+    public int repetitionCount() {
+        int count = 0;
+        int oldest = Math.max(0, ply - halfmoveClock);
+        for (int i = ply - 4; i >= oldest; i -= 2) {
+            if (undoHash[i] == hash) count++;
+        }
+        return count;
+    }
+
+    // Cheap draw test for search: the position occurred before
+    public boolean isRepetition() {
+        int oldest = Math.max(0, ply - halfmoveClock);
+        for (int i = ply - 4; i >= oldest; i -= 2) {
+            if (undoHash[i] == hash) return true;
+        }
+        return false;
+    }
+
+    // --- HASHING ---
+
+    public long getHash() { return hash; }
+
+    // Full recomputation of the incrementally maintained key, for verification
+    public long computeHash() {
+        long key = 0L;
+        long remaining = occupied;
+        while (remaining != 0) {
+            int square = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            key ^= Zobrist.pieceKey(mailbox[square], square, hasMoved(square));
+        }
+        key ^= Zobrist.CASTLING[castlingRights] ^ Zobrist.enPassantKey(enPassantSquare);
+        return sideToMove == BLACK ? key ^ Zobrist.BLACK_TO_MOVE : key;
+    }
+}
@@ -0,0 +1,20 @@
+package com.chess.model;
+
+import java.util.List;
+
+/**
+ * Represents the chess board state with all pieces.
+ * This is the core model for managing board state. Pieces are immutable and the
+ * list is an unmodifiable copy, so a Board can be shared without cloning.
+ */
+public class Board {
+    private final List<Piece> pieces;
+    
+    public Board(List<Piece> pieces) {
+        this.pieces = List.copyOf(pieces);
+    }
+    
+    public List<Piece> getPieces() {
+        return pieces;
+    }
+}
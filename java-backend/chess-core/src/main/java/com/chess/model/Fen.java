@@ -0,0 +1,144 @@
+package com.chess.model;
+
+/**
+ * FEN (Forsyth-Edwards Notation) reader and writer for BitboardPosition.
+ * FEN has no hasMoved flags, so they are inferred: pawns off their home rank and
+ * kings/rooks not covered by a castling right count as moved.
+ */
+public final class Fen {
+
+    public static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final String PIECE_CHARS = "pnbrqk";
+
+    private Fen() {}
+
+    public static BitboardPosition parse(String fen) {
+        String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 2) throw new IllegalArgumentException("Invalid FEN: " + fen);
+
+        int rights = parseCastling(fields.length > 2 ? fields[2] : "-");
+        BitboardPosition position = new BitboardPosition();
+
+        // --- 1. PIECE PLACEMENT (rank 8 first) ---
+        String[] ranks = fields[0].split("/");
+        if (ranks.length != 8) throw new IllegalArgumentException("Invalid FEN board: " + fields[0]);
+        for (int r = 0; r < 8; r++) {
+            int y = 7 - r;
+            int x = 0;
+            for (char c : ranks[r].toCharArray()) {
+                if (Character.isDigit(c)) {
+                    x += c - '0';
+                    continue;
+                }
+                int type = PIECE_CHARS.indexOf(Character.toLowerCase(c));
+                if (type < 0 || x > 7) throw new IllegalArgumentException("Invalid FEN board: " + fields[0]);
+                int team = Character.isUpperCase(c) ? BitboardPosition.WHITE : BitboardPosition.BLACK;
+                int square = (y << 3) | x;
+                position.put(square, team, type, inferMoved(square, team, type, rights));
+                x++;
+            }
+            if (x != 8) throw new IllegalArgumentException("Invalid FEN rank: " + ranks[r]);
+        }
+
+        // --- 2. SIDE, CASTLING, EN PASSANT ---
+        switch (fields[1]) {
+            case "w": position.setSideToMove(BitboardPosition.WHITE); break;
+            case "b": position.setSideToMove(BitboardPosition.BLACK); break;
+            default: throw new IllegalArgumentException("Invalid FEN side to move: " + fields[1]);
+        }
+        position.setCastlingRights(rights);
+        if (fields.length > 3 && !fields[3].equals("-")) {
+            position.setEnPassantSquare(parseSquare(fields[3]));
+        }
+
+        // --- 3. HALFMOVE CLOCK (the fullmove number is not kept) ---
+        if (fields.length > 4) {
+            try {
+                position.setHalfmoveClock(Integer.parseInt(fields[4]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid FEN halfmove clock: " + fields[4]);
+            }
+        }
+        return position;
+    }
+
+    public static String toFen(BitboardPosition position) {
+        StringBuilder fen = new StringBuilder(90);
+        for (int y = 7; y >= 0; y--) {
+            int empty = 0;
+            for (int x = 0; x < 8; x++) {
+                int code = position.pieceAt((y << 3) | x);
+                if (code == BitboardPosition.EMPTY) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) fen.append(empty);
+                empty = 0;
+                char c = PIECE_CHARS.charAt(code % 6);
+                fen.append(code / 6 == BitboardPosition.WHITE ? Character.toUpperCase(c) : c);
+            }
+            if (empty > 0) fen.append(empty);
+            if (y > 0) fen.append('/');
+        }
+
+        fen.append(position.getSideToMove() == BitboardPosition.WHITE ? " w " : " b ");
+        int rights = position.getCastlingRights();
+        if (rights == 0) fen.append('-');
+        if ((rights & BitboardPosition.WHITE_KINGSIDE) != 0) fen.append('K');
+        if ((rights & BitboardPosition.WHITE_QUEENSIDE) != 0) fen.append('Q');
+        if ((rights & BitboardPosition.BLACK_KINGSIDE) != 0) fen.append('k');
+        if ((rights & BitboardPosition.BLACK_QUEENSIDE) != 0) fen.append('q');
+        fen.append(' ').append(position.getEnPassantSquare() < 0 ? "-" : squareName(position.getEnPassantSquare()));
+        return fen.append(' ').append(position.getHalfmoveClock()).append(" 1").toString();
+    }
+
+    // "e4" -> square index, -1 if malformed
+    public static int parseSquare(String name) {
+        if (name.length() != 2) return -1;
+        int x = name.charAt(0) - 'a';
+        int y = name.charAt(1) - '1';
+        if (x < 0 || x > 7 || y < 0 || y > 7) return -1;
+        return (y << 3) | x;
+    }
+
+    public static String squareName(int square) {
+        return "" + (char) ('a' + (square & 7)) + (char) ('1' + (square >>> 3));
+    }
+
+    // --- HELPERS ---
+
+    private static int parseCastling(String field) {
+        int rights = 0;
+        for (char c : field.toCharArray()) {
+            switch (c) {
+                case 'K': rights |= BitboardPosition.WHITE_KINGSIDE; break;
+                case 'Q': rights |= BitboardPosition.WHITE_QUEENSIDE; break;
+                case 'k': rights |= BitboardPosition.BLACK_KINGSIDE; break;
+                case 'q': rights |= BitboardPosition.BLACK_QUEENSIDE; break;
+                case '-': break;
+                default: throw new IllegalArgumentException("Invalid FEN castling rights: " + field);
+            }
+        }
+        return rights;
+    }
+
+    private static boolean inferMoved(int square, int team, int type, int rights) {
+        int y = square >>> 3;
+        int homeRank = team == BitboardPosition.WHITE ? 0 : 7;
+        int kingside = team == BitboardPosition.WHITE ? BitboardPosition.WHITE_KINGSIDE : BitboardPosition.BLACK_KINGSIDE;
+        int queenside = team == BitboardPosition.WHITE ? BitboardPosition.WHITE_QUEENSIDE : BitboardPosition.BLACK_QUEENSIDE;
+        switch (type) {
+            case BitboardPosition.PAWN:
+                return y != (team == BitboardPosition.WHITE ? 1 : 6);
+            case BitboardPosition.KING:
+                return square != homeRank * 8 + 4 || (rights & (kingside | queenside)) == 0;
+            case BitboardPosition.ROOK:
+                if (square == homeRank * 8 + 7) return (rights & kingside) == 0;
+                if (square == homeRank * 8) return (rights & queenside) == 0;
+                return true;
+            default:
+                return false;
+        }
+    }
+}
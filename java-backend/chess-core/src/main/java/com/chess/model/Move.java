@@ -0,0 +1,40 @@
+package com.chess.model;
+
+/**
+ * Compact int encoding of a move: bits 0-5 hold the origin square, bits 6-11 the
+ * destination square (squares indexed as y * 8 + x), bits 12-14 the promotion piece
+ * type (0 = none) and bits 15-16 the special-move flag.
+ */
+public final class Move {
+
+    public static final int NORMAL = 0;
+    public static final int EN_PASSANT = 1;
+    public static final int CASTLING = 2;
+
+    private Move() {}
+
+    public static int of(int from, int to) {
+        return from | (to << 6);
+    }
+
+    public static int of(int from, int to, int promotion, int flag) {
+        return from | (to << 6) | (promotion << 12) | (flag << 15);
+    }
+
+    public static int from(int move) {
+        return move & 63;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 63;
+    }
+
+    // Promotion piece type (KNIGHT..QUEEN), or 0 when the move is not a promotion
+    public static int promotion(int move) {
+        return (move >>> 12) & 7;
+    }
+
+    public static int flag(int move) {
+        return (move >>> 15) & 3;
+    }
+}
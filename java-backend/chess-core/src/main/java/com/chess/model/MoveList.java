@@ -0,0 +1,40 @@
+package com.chess.model;
+
+/**
+ * Reusable, growable buffer of int-encoded moves (see Move).
+ * Callers clear and refill it instead of allocating a list per position.
+ */
+public class MoveList {
+    private int[] moves;
+    private int size;
+
+    public MoveList() {
+        this(256);
+    }
+
+    public MoveList(int capacity) {
+        this.moves = new int[capacity];
+    }
+
+    public void add(int move) {
+        if (size == moves.length) {
+            int[] grown = new int[moves.length * 2];
+            System.arraycopy(moves, 0, grown, 0, size);
+            moves = grown;
+        }
+        moves[size++] = move;
+    }
+
+    public int get(int index) { return moves[index]; }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public void clear() { size = 0; }
+
+    // Lets move ordering sort in place
+    public void swap(int i, int j) {
+        int move = moves[i];
+        moves[i] = moves[j];
+        moves[j] = move;
+    }
+}
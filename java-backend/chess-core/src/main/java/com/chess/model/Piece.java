@@ -0,0 +1,28 @@
+package com.chess.model;
+
+/**
+ * Immutable piece on a square. Moving a piece yields a new one (see moveTo), so
+ * pieces can be shared between boards without copying.
+ */
+public final class Piece {
+    private final Square square;
+    private final PieceType type;
+    private final Team team;
+    private final boolean hasMoved;
+
+    public Piece(Square square, PieceType type, Team team, boolean hasMoved) {
+        this.square = square;
+        this.type = type;
+        this.team = team;
+        this.hasMoved = hasMoved;
+    }
+
+    public Square getSquare() { return square; }
+    public PieceType getType() { return type; }
+    public Team getTeam() { return team; }
+    public boolean isHasMoved() { return hasMoved; }
+
+    public Piece moveTo(Square to) {
+        return new Piece(to, type, team, true);
+    }
+}
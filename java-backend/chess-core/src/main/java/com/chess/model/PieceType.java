@@ -0,0 +1,31 @@
+package com.chess.model;
+
+/**
+ * Kind of a piece. The ordinal is the type index used by BitboardPosition
+ * (PAWN = 0 ... KING = 5).
+ */
+public enum PieceType {
+    PAWN, KNIGHT, BISHOP, ROOK, QUEEN, KING;
+
+    private static final PieceType[] VALUES = values();
+
+    private final String name = name().toLowerCase();
+
+    public static PieceType of(int index) {
+        return VALUES[index];
+    }
+
+    // Case-insensitive parsing for request payloads only; null for unknown names
+    public static PieceType parse(String type) {
+        if (type == null) return null;
+        for (PieceType value : VALUES) {
+            if (value.name.equalsIgnoreCase(type)) return value;
+        }
+        return null;
+    }
+
+    public int index() { return ordinal(); }
+
+    // "pawn", "knight", ... as used in responses
+    public String getName() { return name; }
+}
@@ -0,0 +1,79 @@
+package com.chess.model;
+
+/**
+ * Standard algebraic notation ("Nbd7", "exd5", "e8=Q+", "O-O") matched against the legal
+ * moves of a position. SAN only names the piece, destination and as much of the origin
+ * as needed, so a move is found by filtering the legal move list, which the caller
+ * generates once per position.
+ */
+public final class San {
+
+    private static final String PIECES = "PNBRQK";
+
+    private San() {}
+
+    // The legal move the SAN names, or 0 if it names none or more than one
+    public static int parse(String san, BitboardPosition position, MoveList legalMoves) {
+        String text = stripSuffixes(san);
+        if (text.isEmpty()) return 0;
+
+        // --- 1. CASTLING ---
+        if (text.equals("O-O") || text.equals("0-0") || text.equals("O-O-O") || text.equals("0-0-0")) {
+            boolean kingside = text.length() == 3;
+            for (int i = 0; i < legalMoves.size(); i++) {
+                int move = legalMoves.get(i);
+                if (Move.flag(move) == Move.CASTLING && (Move.to(move) > Move.from(move)) == kingside) return move;
+            }
+            return 0;
+        }
+
+        // --- 2. PIECE, PROMOTION, DESTINATION ---
+        int type = BitboardPosition.PAWN;
+        int start = 0;
+        if (PIECES.indexOf(text.charAt(0)) > 0) {
+            type = PIECES.indexOf(text.charAt(0));
+            start = 1;
+        }
+        int end = text.length();
+        int promotion = 0;
+        if (type == BitboardPosition.PAWN && end >= 3 && PIECES.indexOf(text.charAt(end - 1)) > 0) {
+            promotion = PIECES.indexOf(text.charAt(end - 1));
+            end -= text.charAt(end - 2) == '=' ? 2 : 1;
+        }
+        if (end - start < 2) return 0;
+        int to = Fen.parseSquare(text.substring(end - 2, end));
+        if (to < 0) return 0;
+
+        // --- 3. DISAMBIGUATION ---
+        // Whatever is left between piece and destination: an origin file, rank or both, and 'x'
+        int fromFile = -1;
+        int fromRank = -1;
+        for (int i = start; i < end - 2; i++) {
+            char c = text.charAt(i);
+            if (c >= 'a' && c <= 'h') fromFile = c - 'a';
+            else if (c >= '1' && c <= '8') fromRank = c - '1';
+            else if (c != 'x' && c != ':' && c != '-') return 0;
+        }
+
+        int found = 0;
+        for (int i = 0; i < legalMoves.size(); i++) {
+            int move = legalMoves.get(i);
+            int from = Move.from(move);
+            if (Move.to(move) != to || position.typeAt(from) != type || Move.flag(move) == Move.CASTLING) continue;
+            if (fromFile >= 0 && (from & 7) != fromFile) continue;
+            if (fromRank >= 0 && (from >>> 3) != fromRank) continue;
+            if (Move.promotion(move) != promotion) continue;
+            // Ambiguous SAN names no single move
+            if (found != 0) return 0;
+            found = move;
+        }
+        return found;
+    }
+
+    // Drops check/mate marks and annotation glyphs ("+", "#", "!", "?")
+    private static String stripSuffixes(String san) {
+        int end = san.length();
+        while (end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0) end--;
+        return san.substring(0, end);
+    }
+}
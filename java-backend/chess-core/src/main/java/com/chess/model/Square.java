@@ -0,0 +1,52 @@
+package com.chess.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable board square. All 64 instances are created up front and shared, so
+ * converting a square index is a table lookup and instances compare by identity.
+ * Serialized as {"x": file, "y": rank} with a1 = (0, 0), the index being y * 8 + x.
+ */
+public final class Square {
+
+    private static final Square[] SQUARES = new Square[64];
+
+    static {
+        for (int index = 0; index < 64; index++) SQUARES[index] = new Square(index);
+    }
+
+    private final int index;
+
+    private Square(int index) {
+        this.index = index;
+    }
+
+    public static Square of(int index) {
+        return SQUARES[index];
+    }
+
+    public static Square of(int x, int y) {
+        if (x < 0 || x > 7 || y < 0 || y > 7) throw new IllegalArgumentException("Off the board: " + x + "," + y);
+        return SQUARES[(y << 3) | x];
+    }
+
+    // The squares of a bitboard in ascending order
+    public static List<Square> listOf(long squares) {
+        List<Square> result = new ArrayList<>(Long.bitCount(squares));
+        while (squares != 0) {
+            result.add(SQUARES[Long.numberOfTrailingZeros(squares)]);
+            squares &= squares - 1;
+        }
+        return result;
+    }
+
+    public int index() { return index; }
+    public int getX() { return index & 7; }
+    public int getY() { return index >>> 3; }
+
+    @Override
+    public String toString() {
+        return Fen.squareName(index);
+    }
+}
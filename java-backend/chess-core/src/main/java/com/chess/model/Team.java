@@ -0,0 +1,32 @@
+package com.chess.model;
+
+/**
+ * Side of a piece. The ordinal is the team index used by BitboardPosition
+ * (WHITE = 0, BLACK = 1), so converting either way is free.
+ */
+public enum Team {
+    WHITE("w"), BLACK("b");
+
+    private static final Team[] VALUES = values();
+
+    private final String name;
+
+    Team(String name) {
+        this.name = name;
+    }
+
+    public static Team of(int index) {
+        return VALUES[index];
+    }
+
+    // Lenient parsing for request payloads only: "w", "White", ... are white, anything else black
+    public static Team parse(String team) {
+        return team != null && !team.isEmpty() && Character.toLowerCase(team.charAt(0)) == 'w' ? WHITE : BLACK;
+    }
+
+    public int index() { return ordinal(); }
+    public Team opponent() { return VALUES[ordinal() ^ 1]; }
+
+    // "w" / "b", as used in responses and FEN
+    public String getName() { return name; }
+}
@@ -0,0 +1,30 @@
+package com.chess.model;
+
+/**
+ * UCI long algebraic move notation ("e2e4", "e7e8q") to and from the int Move encoding.
+ * Parsing only yields the squares and promotion piece; castling and en passant flags
+ * depend on the position and are added by BitboardPosition.encodeMove.
+ */
+public final class Uci {
+
+    private static final String PROMOTIONS = " nbrq";
+
+    private Uci() {}
+
+    public static int parse(String uci) {
+        if (uci == null || (uci.length() != 4 && uci.length() != 5)) {
+            throw new IllegalArgumentException("Invalid UCI move: " + uci);
+        }
+        int from = Fen.parseSquare(uci.substring(0, 2));
+        int to = Fen.parseSquare(uci.substring(2, 4));
+        int promotion = uci.length() == 5 ? PROMOTIONS.indexOf(uci.charAt(4)) : 0;
+        if (from < 0 || to < 0 || promotion < 0) throw new IllegalArgumentException("Invalid UCI move: " + uci);
+        return Move.of(from, to, promotion, Move.NORMAL);
+    }
+
+    public static String toUci(int move) {
+        String squares = Fen.squareName(Move.from(move)) + Fen.squareName(Move.to(move));
+        int promotion = Move.promotion(move);
+        return promotion == 0 ? squares : squares + PROMOTIONS.charAt(promotion);
+    }
+}
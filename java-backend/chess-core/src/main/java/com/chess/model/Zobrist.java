@@ -0,0 +1,49 @@
+package com.chess.model;
+
+/**
+ * Zobrist keys for BitboardPosition hashing. Keys come from a fixed-seed
+ * generator so hashes are stable across runs and JVM instances.
+ */
+public final class Zobrist {
+
+    // Indexed by [team * 6 + type][square]
+    public static final long[][] PIECES = new long[12][64];
+    // Extra key for a pawn that has not moved yet (the rules allow its double step)
+    public static final long[] UNMOVED_PAWN = new long[64];
+    public static final long[] CASTLING = new long[16];
+    public static final long[] EN_PASSANT_FILE = new long[8];
+    public static final long BLACK_TO_MOVE;
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (long[] keys : PIECES) {
+            for (int square = 0; square < 64; square++) keys[square] = seed = next(seed);
+        }
+        for (int square = 0; square < 64; square++) UNMOVED_PAWN[square] = seed = next(seed);
+        // No rights hashes to zero so a bare position keeps a plain piece-square key
+        for (int rights = 1; rights < 16; rights++) CASTLING[rights] = seed = next(seed);
+        for (int file = 0; file < 8; file++) EN_PASSANT_FILE[file] = seed = next(seed);
+        BLACK_TO_MOVE = next(seed);
+    }
+
+    private Zobrist() {}
+
+    // Hash contribution of one piece on one square
+    public static long pieceKey(int code, int square, boolean hasMoved) {
+        long key = PIECES[code][square];
+        if (code % 6 == BitboardPosition.PAWN && !hasMoved) key ^= UNMOVED_PAWN[square];
+        return key;
+    }
+
+    public static long enPassantKey(int square) {
+        return square < 0 ? 0L : EN_PASSANT_FILE[square & 7];
+    }
+
+    // splitmix64 step
+    private static long next(long state) {
+        long z = state + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
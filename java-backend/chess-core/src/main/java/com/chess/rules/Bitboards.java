@@ -0,0 +1,120 @@
+package com.chess.rules;
+
+/**
+ * Precomputed attack tables and sliding attacks for the bitboard rules engine.
+ * Squares are indexed as y * 8 + x, so (0,0) is bit 0 and (7,7) is bit 63.
+ */
+public final class Bitboards {
+
+    public static final long[] KNIGHT_ATTACKS = new long[64];
+    public static final long[] KING_ATTACKS = new long[64];
+    // Indexed by [team][square]: the squares a pawn of that team attacks
+    public static final long[][] PAWN_ATTACKS = new long[2][64];
+
+    // Squares strictly between two aligned squares (0 when not on a shared line)
+    public static final long[][] BETWEEN = new long[64][64];
+    // Full board line through two aligned squares, both included (0 when not aligned)
+    public static final long[][] LINE = new long[64][64];
+
+    // Line masks through each square, excluding the square itself
+    private static final long[] FILE_MASKS = new long[64];
+    private static final long[] RANK_MASKS = new long[64];
+    private static final long[] DIAGONAL_MASKS = new long[64];
+    private static final long[] ANTI_DIAGONAL_MASKS = new long[64];
+
+    static {
+        int[][] knightJumps = {{2, 1}, {2, -1}, {-2, 1}, {-2, -1}, {1, 2}, {1, -2}, {-1, 2}, {-1, -2}};
+        int[][] kingSteps = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}, {1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+
+        for (int square = 0; square < 64; square++) {
+            int x = square & 7;
+            int y = square >>> 3;
+
+            KNIGHT_ATTACKS[square] = stepMask(x, y, knightJumps);
+            KING_ATTACKS[square] = stepMask(x, y, kingSteps);
+            PAWN_ATTACKS[0][square] = stepMask(x, y, new int[][]{{-1, 1}, {1, 1}});
+            PAWN_ATTACKS[1][square] = stepMask(x, y, new int[][]{{-1, -1}, {1, -1}});
+
+            FILE_MASKS[square] = rayMask(x, y, 0, 1) | rayMask(x, y, 0, -1);
+            RANK_MASKS[square] = rayMask(x, y, 1, 0) | rayMask(x, y, -1, 0);
+            DIAGONAL_MASKS[square] = rayMask(x, y, 1, 1) | rayMask(x, y, -1, -1);
+            ANTI_DIAGONAL_MASKS[square] = rayMask(x, y, 1, -1) | rayMask(x, y, -1, 1);
+        }
+
+        for (int square = 0; square < 64; square++) {
+            int x = square & 7;
+            int y = square >>> 3;
+            for (int[] dir : kingSteps) {
+                long line = rayMask(x, y, dir[0], dir[1]) | rayMask(x, y, -dir[0], -dir[1]) | bit(square);
+                long between = 0L;
+                for (int i = 1; i < 8; i++) {
+                    int target = square(x + dir[0] * i, y + dir[1] * i);
+                    if (target < 0) break;
+                    BETWEEN[square][target] = between;
+                    LINE[square][target] = line;
+                    between |= bit(target);
+                }
+            }
+        }
+    }
+
+    private Bitboards() {}
+
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    // --- SLIDING ATTACKS ---
+
+    public static long rookAttacks(int square, long occupied) {
+        return lineAttacks(square, occupied, FILE_MASKS[square])
+             | lineAttacks(square, occupied, RANK_MASKS[square]);
+    }
+
+    public static long bishopAttacks(int square, long occupied) {
+        return lineAttacks(square, occupied, DIAGONAL_MASKS[square])
+             | lineAttacks(square, occupied, ANTI_DIAGONAL_MASKS[square]);
+    }
+
+    public static long queenAttacks(int square, long occupied) {
+        return rookAttacks(square, occupied) | bishopAttacks(square, occupied);
+    }
+
+    // Hyperbola quintessence: o ^ (o - 2r) along one line, mirrored with a full
+    // bit reversal for the negative direction (which also makes it valid for ranks).
+    private static long lineAttacks(int square, long occupied, long mask) {
+        long slider = 1L << square;
+        long forward = occupied & mask;
+        long reverse = Long.reverse(forward);
+        forward -= slider;
+        reverse -= Long.reverse(slider);
+        forward ^= Long.reverse(reverse);
+        return forward & mask;
+    }
+
+    // --- TABLE BUILDERS ---
+
+    private static int square(int x, int y) {
+        if (x < 0 || x > 7 || y < 0 || y > 7) return -1;
+        return (y << 3) | x;
+    }
+
+    private static long stepMask(int x, int y, int[][] steps) {
+        long mask = 0L;
+        for (int[] step : steps) {
+            int target = square(x + step[0], y + step[1]);
+            if (target >= 0) mask |= bit(target);
+        }
+        return mask;
+    }
+
+    private static long rayMask(int x, int y, int dx, int dy) {
+        long mask = 0L;
+        for (int i = 1; i < 8; i++) {
+            int target = square(x + dx * i, y + dy * i);
+            if (target < 0) break;
+            mask |= bit(target);
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,63 @@
+package com.chess.rules;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Piece;
+import com.chess.model.Team;
+import java.util.List;
+
+public class CheckmateDetector {
+
+    public static final String THREEFOLD_REPETITION = "threefold-repetition";
+    public static final String FIFTY_MOVE_RULE = "fifty-move-rule";
+    public static final String SEVENTY_FIVE_MOVE_RULE = "seventy-five-move-rule";
+    public static final String FIVEFOLD_REPETITION = "fivefold-repetition";
+
+    // --- 1. IS KING IN CHECK? ---
+    public static boolean isKingInCheck(Team team, List<Piece> boardState) {
+        return isKingInCheck(team.index(), BitboardPosition.fromPieces(boardState));
+    }
+
+    public static boolean isKingInCheck(int team, BitboardPosition position) {
+        int kingSquare = position.kingSquare(team);
+        if (kingSquare < 0) return false;
+        // Constant time: a lookup in the position's incrementally maintained attack map
+        return position.isAttacked(kingSquare, team ^ 1);
+    }
+
+    // --- 2. IS CHECKMATE? (Check + No Escape) ---
+    public static boolean isCheckmate(Team team, List<Piece> boardState) {
+        return isCheckmate(team.index(), BitboardPosition.fromPieces(boardState));
+    }
+
+    public static boolean isCheckmate(int team, BitboardPosition position) {
+        return new MoveGenerator(position, team).isCheckmate();
+    }
+
+    // --- 3. IS STALEMATE? (No Check + No Moves) ---
+    public static boolean isStalemate(Team team, List<Piece> boardState) {
+        return isStalemate(team.index(), BitboardPosition.fromPieces(boardState));
+    }
+
+    public static boolean isStalemate(int team, BitboardPosition position) {
+        return new MoveGenerator(position, team).isStalemate();
+    }
+
+    // --- 4. DRAW BY RULE? (Repetition / Move Count) ---
+    // Repetition needs the moves played on this position (its hash history); the halfmove
+    // clock also comes from FEN. Checkmate takes precedence, so check it first.
+    public static String drawReason(BitboardPosition position) {
+        int clock = position.getHalfmoveClock();
+        int repetitions = position.repetitionCount();
+        if (clock >= 150) return SEVENTY_FIVE_MOVE_RULE;
+        if (repetitions >= 4) return FIVEFOLD_REPETITION;
+        if (repetitions >= 2) return THREEFOLD_REPETITION;
+        if (clock >= 100) return FIFTY_MOVE_RULE;
+        return null;
+    }
+
+    // Seventy-five moves and fivefold repetition end the game; threefold repetition and
+    // fifty moves only let a player claim a draw
+    public static boolean isAutomaticDraw(String drawReason) {
+        return SEVENTY_FIVE_MOVE_RULE.equals(drawReason) || FIVEFOLD_REPETITION.equals(drawReason);
+    }
+}
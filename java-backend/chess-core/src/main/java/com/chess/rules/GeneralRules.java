@@ -0,0 +1,80 @@
+package com.chess.rules;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Piece;
+import com.chess.model.Square;
+import com.chess.model.Team;
+import java.util.List;
+
+import static com.chess.model.BitboardPosition.*;
+
+public class GeneralRules {
+
+    // Check if a specific tile is occupied by ANY piece
+    public static boolean tileIsOccupied(Square square, List<Piece> boardState) {
+        for (Piece p : boardState) {
+            if (p.getSquare() == square) return true;
+        }
+        return false;
+    }
+
+    // Check if a tile is occupied by an OPPONENT (Capture target)
+    public static boolean tileIsOccupiedByOpponent(Square square, List<Piece> boardState, Team currentTeam) {
+        for (Piece p : boardState) {
+            if (p.getSquare() == square) return p.getTeam() != currentTeam;
+        }
+        return false;
+    }
+
+    // Check if a tile is empty OR has an opponent (Valid move destination)
+    public static boolean tileIsEmptyOrOccupiedByOpponent(Square square, List<Piece> boardState, Team team) {
+        for (Piece p : boardState) {
+            if (p.getSquare() == square) return p.getTeam() != team;
+        }
+        return true;
+    }
+
+    // --- BITBOARD VARIANTS (single mask test instead of a list scan) ---
+
+    public static boolean tileIsOccupied(int square, BitboardPosition position) {
+        return (position.getOccupied() & Bitboards.bit(square)) != 0;
+    }
+
+    public static boolean tileIsOccupiedByOpponent(int square, BitboardPosition position, int team) {
+        return (position.getOccupancy(team ^ 1) & Bitboards.bit(square)) != 0;
+    }
+
+    public static boolean tileIsEmptyOrOccupiedByOpponent(int square, BitboardPosition position, int team) {
+        return (position.getOccupancy(team) & Bitboards.bit(square)) == 0;
+    }
+
+    // Is this square attacked by any piece of the given team? (a lookup in the position's attack map)
+    public static boolean isSquareAttacked(int square, int byTeam, BitboardPosition position) {
+        return position.isAttacked(square, byTeam);
+    }
+
+    // All pieces of the given team attacking the square, with sliders seeing through
+    // the supplied occupancy (lets callers remove a piece, e.g. a king stepping back along a ray)
+    public static long attackersTo(int square, int byTeam, long occupied, BitboardPosition position) {
+        long queens = position.getPieces(byTeam, QUEEN);
+        return (Bitboards.PAWN_ATTACKS[byTeam ^ 1][square] & position.getPieces(byTeam, PAWN))
+             | (Bitboards.KNIGHT_ATTACKS[square] & position.getPieces(byTeam, KNIGHT))
+             | (Bitboards.KING_ATTACKS[square] & position.getPieces(byTeam, KING))
+             | (Bitboards.bishopAttacks(square, occupied) & (position.getPieces(byTeam, BISHOP) | queens))
+             | (Bitboards.rookAttacks(square, occupied) & (position.getPieces(byTeam, ROOK) | queens));
+    }
+
+    // Pseudo-legal destination mask for whatever piece stands on the square
+    public static long getMoveMask(int square, BitboardPosition position) {
+        int team = position.teamAt(square);
+        switch (position.typeAt(square)) {
+            case PAWN: return PawnRules.getMoveMask(square, team, position);
+            case KNIGHT: return KnightRules.getMoveMask(square, team, position);
+            case BISHOP: return BishopRules.getMoveMask(square, team, position);
+            case ROOK: return RookRules.getMoveMask(square, team, position);
+            case QUEEN: return QueenRules.getMoveMask(square, team, position);
+            case KING: return KingRules.getMoveMask(square, team, position);
+            default: return 0L;
+        }
+    }
+}
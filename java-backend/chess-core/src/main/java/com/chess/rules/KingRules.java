@@ -0,0 +1,68 @@
+package com.chess.rules;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Piece;
+import com.chess.model.Square;
+import com.chess.model.Team;
+import java.util.List;
+
+public class KingRules {
+
+    public static boolean isValidMove(Square from, Square to, Team team, List<Piece> boardState) {
+        return isValidMove(from.index(), to.index(), team.index(), BitboardPosition.fromPieces(boardState));
+    }
+
+    public static List<Square> getPossibleMoves(Square from, Team team, List<Piece> boardState) {
+        return Square.listOf(getMoveMask(from.index(), team.index(), BitboardPosition.fromPieces(boardState)));
+    }
+
+    // --- BITBOARD ENTRY POINTS ---
+
+    public static boolean isValidMove(int from, int to, int team, BitboardPosition position) {
+        return (getMoveMask(from, team, position) & Bitboards.bit(to)) != 0;
+    }
+
+    public static long getMoveMask(int from, int team, BitboardPosition position) {
+        // 1. Geometric Check (1 square radius) + Occupancy Check
+        long moves = Bitboards.KING_ATTACKS[from] & ~position.getOccupancy(team);
+
+        // 2. Castling (rights left, rook at home, squares between them empty)
+        moves |= castlingMoves(from, team, position);
+
+        // 3. King Separation (Cannot touch enemy king)
+        return moves & ~nearEnemyKing(team, position);
+    }
+
+    // Castling destinations by geometry and rights only; the "not through check" part is
+    // left to MoveGenerator, which knows the attacked squares
+    private static long castlingMoves(int from, int team, BitboardPosition position) {
+        int home = team == BitboardPosition.WHITE ? 4 : 60;
+        int rights = position.getCastlingRights() >>> (team * 2);
+        if (from != home || (rights & 3) == 0) return 0L;
+
+        long occupied = position.getOccupied();
+        long rooks = position.getPieces(team, BitboardPosition.ROOK);
+        long moves = 0L;
+        if ((rights & 1) != 0 && (rooks & Bitboards.bit(home + 3)) != 0
+                && (occupied & Bitboards.BETWEEN[home][home + 3]) == 0) {
+            moves |= Bitboards.bit(home + 2);
+        }
+        if ((rights & 2) != 0 && (rooks & Bitboards.bit(home - 4)) != 0
+                && (occupied & Bitboards.BETWEEN[home][home - 4]) == 0) {
+            moves |= Bitboards.bit(home - 2);
+        }
+        return moves;
+    }
+
+    // Squares within one step of (or on) the enemy king
+    private static long nearEnemyKing(int myTeam, BitboardPosition position) {
+        long near = 0L;
+        long kings = position.getPieces(myTeam ^ 1, BitboardPosition.KING);
+        while (kings != 0) {
+            int square = Long.numberOfTrailingZeros(kings);
+            near |= Bitboards.KING_ATTACKS[square] | Bitboards.bit(square);
+            kings &= kings - 1;
+        }
+        return near;
+    }
+}
@@ -0,0 +1,29 @@
+package com.chess.rules;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Piece;
+import com.chess.model.Square;
+import com.chess.model.Team;
+import java.util.List;
+
+public class KnightRules {
+
+    public static boolean isValidMove(Square from, Square to, Team team, List<Piece> boardState) {
+        return isValidMove(from.index(), to.index(), team.index(), BitboardPosition.fromPieces(boardState));
+    }
+
+    public static List<Square> getPossibleMoves(Square from, Team team, List<Piece> boardState) {
+        return Square.listOf(getMoveMask(from.index(), team.index(), BitboardPosition.fromPieces(boardState)));
+    }
+
+    // --- BITBOARD ENTRY POINTS ---
+
+    public static boolean isValidMove(int from, int to, int team, BitboardPosition position) {
+        return (getMoveMask(from, team, position) & Bitboards.bit(to)) != 0;
+    }
+
+    // L-shaped jumps from the precomputed table, minus our own pieces
+    public static long getMoveMask(int from, int team, BitboardPosition position) {
+        return Bitboards.KNIGHT_ATTACKS[from] & ~position.getOccupancy(team);
+    }
+}
@@ -0,0 +1,271 @@
+package com.chess.rules;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Move;
+import com.chess.model.MoveList;
+
+import static com.chess.model.BitboardPosition.*;
+
+/**
+ * Legal move generator for one side of a position.
+ * Checkers, pinned pieces and the check evasion mask are computed once in reset(),
+ * after which every query only intersects the pseudo-legal masks from the *Rules
+ * classes with them: no board copies and no re-check per candidate move. King safety
+ * reads the position's attack maps, so king steps and castling cost a mask test.
+ */
+public class MoveGenerator {
+
+    private BitboardPosition position;
+    private int team;
+    private int kingSquare;
+    private long checkers;
+    private long pinned;
+    // Destinations that resolve a single check (capture the checker or block); all squares when not in check
+    private long checkMask;
+
+    // Unbound generator; call reset() before querying it
+    public MoveGenerator() {}
+
+    public MoveGenerator(BitboardPosition position, int team) {
+        reset(position, team);
+    }
+
+    // Recompute checkers, pins and the evasion mask for a (possibly changed) position
+    public void reset(BitboardPosition position, int team) {
+        this.position = position;
+        this.team = team;
+        this.kingSquare = position.kingSquare(team);
+        this.pinned = 0L;
+
+        if (kingSquare < 0) {
+            // No king on the board: nothing can be checked or pinned
+            this.checkers = 0L;
+            this.checkMask = ~0L;
+            return;
+        }
+
+        int enemy = team ^ 1;
+        long occupied = position.getOccupied();
+        // The attack map answers "in check?" directly; checkers are only identified when it says yes
+        checkers = position.isAttacked(kingSquare, enemy) ? GeneralRules.attackersTo(kingSquare, enemy, occupied, position) : 0L;
+
+        if (checkers == 0) {
+            checkMask = ~0L;
+        } else if (Long.bitCount(checkers) == 1) {
+            checkMask = checkers | Bitboards.BETWEEN[kingSquare][Long.numberOfTrailingZeros(checkers)];
+        } else {
+            checkMask = 0L; // Double check: only the king may move
+        }
+
+        // Enemy sliders lined up with our king; exactly one own piece in between means a pin
+        long queens = position.getPieces(enemy, QUEEN);
+        long snipers = (Bitboards.rookAttacks(kingSquare, 0L) & (position.getPieces(enemy, ROOK) | queens))
+                     | (Bitboards.bishopAttacks(kingSquare, 0L) & (position.getPieces(enemy, BISHOP) | queens));
+        while (snipers != 0) {
+            int sniper = Long.numberOfTrailingZeros(snipers);
+            snipers &= snipers - 1;
+            long blockers = Bitboards.BETWEEN[kingSquare][sniper] & occupied;
+            if (blockers != 0 && (blockers & (blockers - 1)) == 0 && (blockers & position.getOccupancy(team)) != 0) {
+                pinned |= blockers;
+            }
+        }
+    }
+
+    // --- QUERIES ---
+
+    public long getCheckers() { return checkers; }
+    public boolean isCheck() { return checkers != 0; }
+
+    public boolean isCheckmate() {
+        return isCheck() && !hasLegalMoves();
+    }
+
+    public boolean isStalemate() {
+        return !isCheck() && !hasLegalMoves();
+    }
+
+    // Legal destination mask for the piece on the square (0 if it is not ours)
+    public long getLegalMoves(int from) {
+        if (position.teamAt(from) != team) return 0L;
+        if (from == kingSquare) return getKingMoves();
+
+        long moves = GeneralRules.getMoveMask(from, position);
+        // En passant removes a pawn that is not on the destination, so pins and check
+        // evasion are verified separately on the resulting occupancy
+        long enPassant = 0L;
+        if (position.typeAt(from) == PAWN && position.getEnPassantSquare() >= 0) {
+            enPassant = moves & Bitboards.bit(position.getEnPassantSquare());
+            moves &= ~enPassant;
+        }
+
+        moves &= checkMask;
+        if ((pinned & Bitboards.bit(from)) != 0) {
+            moves &= Bitboards.LINE[kingSquare][from];
+        }
+        if (enPassant != 0 && isLegalEnPassant(from, position.getEnPassantSquare())) {
+            moves |= enPassant;
+        }
+        return moves;
+    }
+
+    public boolean hasLegalMoves() {
+        if (getKingMoves() != 0) return true;
+        if (Long.bitCount(checkers) > 1) return false;
+
+        long own = position.getOccupancy(team);
+        if (kingSquare >= 0) own &= ~Bitboards.bit(kingSquare);
+        while (own != 0) {
+            if (getLegalMoves(Long.numberOfTrailingZeros(own)) != 0) return true;
+            own &= own - 1;
+        }
+        return false;
+    }
+
+    // Appends every legal move of the side to the list; returns the number added
+    public int generate(MoveList moves) {
+        return generate(moves, ~0L, ~0L);
+    }
+
+    // Captures (en passant included) and promotions only, for quiescence search
+    public int generateCaptures(MoveList moves) {
+        long targets = position.getOccupancy(team ^ 1);
+        if (position.getEnPassantSquare() >= 0) targets |= Bitboards.bit(position.getEnPassantSquare());
+        return generate(moves, targets, ~0L);
+    }
+
+    // Legal moves that give check, for mate search. Direct checks are read off the squares
+    // each piece type checks the enemy king from, discovered checks off our pieces that
+    // shield it from our own sliders; castling, en passant and promotions are played to test
+    public int generateChecks(MoveList moves) {
+        int enemyKing = position.kingSquare(team ^ 1);
+        if (enemyKing < 0) return 0;
+        long occupied = position.getOccupied();
+        long diagonal = Bitboards.bishopAttacks(enemyKing, occupied);
+        long straight = Bitboards.rookAttacks(enemyKing, occupied);
+        long[] checkSquares = {
+            Bitboards.PAWN_ATTACKS[team ^ 1][enemyKing], Bitboards.KNIGHT_ATTACKS[enemyKing],
+            diagonal, straight, diagonal | straight, 0L
+        };
+
+        long discoverers = 0L;
+        long queens = position.getPieces(team, QUEEN);
+        long snipers = (Bitboards.rookAttacks(enemyKing, 0L) & (position.getPieces(team, ROOK) | queens))
+                     | (Bitboards.bishopAttacks(enemyKing, 0L) & (position.getPieces(team, BISHOP) | queens));
+        while (snipers != 0) {
+            int sniper = Long.numberOfTrailingZeros(snipers);
+            snipers &= snipers - 1;
+            long blockers = Bitboards.BETWEEN[enemyKing][sniper] & occupied;
+            if (blockers != 0 && (blockers & (blockers - 1)) == 0 && (blockers & position.getOccupancy(team)) != 0) {
+                discoverers |= blockers;
+            }
+        }
+
+        int added = 0;
+        long own = position.getOccupancy(team);
+        while (own != 0) {
+            int from = Long.numberOfTrailingZeros(own);
+            own &= own - 1;
+            int type = position.typeAt(from);
+            boolean promotes = type == PAWN && (from >>> 3) == (team == WHITE ? 6 : 1);
+            long targets = getLegalMoves(from);
+            while (targets != 0) {
+                int to = Long.numberOfTrailingZeros(targets);
+                targets &= targets - 1;
+                if (promotes) {
+                    for (int promotion = QUEEN; promotion >= KNIGHT; promotion--) {
+                        int move = Move.of(from, to, promotion, Move.NORMAL);
+                        if (givesCheckByPlaying(move, enemyKing)) {
+                            moves.add(move);
+                            added++;
+                        }
+                    }
+                    continue;
+                }
+                int move = position.encodeMove(from, to, 0);
+                boolean check = Move.flag(move) != Move.NORMAL
+                        ? givesCheckByPlaying(move, enemyKing)
+                        : (checkSquares[type] & Bitboards.bit(to)) != 0
+                          || ((discoverers & Bitboards.bit(from)) != 0 && (Bitboards.LINE[enemyKing][from] & Bitboards.bit(to)) == 0);
+                if (check) {
+                    moves.add(move);
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    // --- HELPERS ---
+
+    private boolean givesCheckByPlaying(int move, int enemyKing) {
+        position.makeMove(move);
+        boolean check = position.isAttacked(enemyKing, team);
+        position.unmakeMove(move);
+        return check;
+    }
+
+    // Pawns about to promote use their own filter, so quiet promotions can be kept with captures
+    private int generate(MoveList moves, long targetFilter, long promotionFilter) {
+        int added = 0;
+        long own = position.getOccupancy(team);
+        while (own != 0) {
+            int from = Long.numberOfTrailingZeros(own);
+            own &= own - 1;
+            boolean promotes = position.typeAt(from) == PAWN && (from >>> 3) == (team == WHITE ? 6 : 1);
+            long targets = getLegalMoves(from) & (promotes ? promotionFilter : targetFilter);
+            while (targets != 0) {
+                int to = Long.numberOfTrailingZeros(targets);
+                targets &= targets - 1;
+                if (promotes) {
+                    for (int type = QUEEN; type >= KNIGHT; type--) {
+                        moves.add(Move.of(from, to, type, Move.NORMAL));
+                        added++;
+                    }
+                } else {
+                    moves.add(position.encodeMove(from, to, 0));
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    private long getKingMoves() {
+        if (kingSquare < 0) return 0L;
+        long moves = KingRules.getMoveMask(kingSquare, team, position) & ~position.getAttacked(team ^ 1);
+
+        // The attack map stops slider rays at our king; stepping back along a checking ray stays in check
+        long sliders = checkers & ~position.getPieces(team ^ 1, PAWN) & ~position.getPieces(team ^ 1, KNIGHT);
+        while (sliders != 0) {
+            int checker = Long.numberOfTrailingZeros(sliders);
+            sliders &= sliders - 1;
+            moves &= ~Bitboards.LINE[kingSquare][checker] | Bitboards.bit(checker);
+        }
+
+        // Castling: not out of check, and not across an attacked square
+        long castling = moves & ~Bitboards.KING_ATTACKS[kingSquare];
+        while (castling != 0) {
+            int to = Long.numberOfTrailingZeros(castling);
+            castling &= castling - 1;
+            if (checkers != 0 || position.isAttacked((kingSquare + to) >>> 1, team ^ 1)) {
+                moves &= ~Bitboards.bit(to);
+            }
+        }
+        return moves;
+    }
+
+    // Replays the capture on the occupancy alone: the king must not be attacked once both
+    // pawns have left their squares (covers the rank pin that removes two blockers at once)
+    private boolean isLegalEnPassant(int from, int to) {
+        if (kingSquare < 0) return true;
+        int enemy = team ^ 1;
+        int captured = enPassantCaptureSquare(to, team);
+        long occupied = (position.getOccupied() ^ Bitboards.bit(from) ^ Bitboards.bit(captured)) | Bitboards.bit(to);
+        long queens = position.getPieces(enemy, QUEEN);
+        long attackers = (Bitboards.rookAttacks(kingSquare, occupied) & (position.getPieces(enemy, ROOK) | queens))
+                       | (Bitboards.bishopAttacks(kingSquare, occupied) & (position.getPieces(enemy, BISHOP) | queens))
+                       | (Bitboards.KNIGHT_ATTACKS[kingSquare] & position.getPieces(enemy, KNIGHT))
+                       | (Bitboards.PAWN_ATTACKS[team][kingSquare] & position.getPieces(enemy, PAWN) & ~Bitboards.bit(captured));
+        return attackers == 0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.chess.rules;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Piece;
+import com.chess.model.Square;
+import com.chess.model.Team;
+import java.util.List;
+
+public class PawnRules {
+
+    public static boolean isValidMove(Square from, Square to, Team team, List<Piece> boardState) {
+        return isValidMove(from.index(), to.index(), team.index(), BitboardPosition.fromPieces(boardState));
+    }
+
+    // Helper for CheckmateDetector: Can this pawn ATTACK this square?
+    public static boolean canCapture(Square from, Square to, Team team, List<Piece> boardState) {
+        return (Bitboards.PAWN_ATTACKS[team.index()][from.index()] & Bitboards.bit(to.index())) != 0;
+    }
+
+    // Helper for UI Green Dots
+    public static List<Square> getPossibleMoves(Square from, Team team, List<Piece> boardState) {
+        return Square.listOf(getMoveMask(from.index(), team.index(), BitboardPosition.fromPieces(boardState)));
+    }
+
+    // --- BITBOARD ENTRY POINTS ---
+
+    public static boolean isValidMove(int from, int to, int team, BitboardPosition position) {
+        return (getMoveMask(from, team, position) & Bitboards.bit(to)) != 0;
+    }
+
+    public static long getMoveMask(int from, int team, BitboardPosition position) {
+        long empty = ~position.getOccupied();
+
+        // --- 1. FORWARD MOVES ---
+        // A. Single Step
+        long single = forward(Bitboards.bit(from), team) & empty;
+        long moves = single;
+        // B. Double Step (First move only, path must be clear)
+        if (single != 0 && !position.hasMoved(from)) {
+            moves |= forward(single, team) & empty;
+        }
+
+        // --- 2. DIAGONAL CAPTURE ---
+        moves |= Bitboards.PAWN_ATTACKS[team][from] & position.getOccupancy(team ^ 1);
+
+        // --- 3. EN PASSANT ---
+        // Only onto the square an enemy pawn just skipped, with that pawn still beside us
+        int enPassant = position.getEnPassantSquare();
+        if (enPassant >= 0 && enPassant >>> 3 == (team == BitboardPosition.WHITE ? 5 : 2)) {
+            int captured = BitboardPosition.enPassantCaptureSquare(enPassant, team);
+            if ((position.getPieces(team ^ 1, BitboardPosition.PAWN) & Bitboards.bit(captured)) != 0) {
+                moves |= Bitboards.PAWN_ATTACKS[team][from] & Bitboards.bit(enPassant);
+            }
+        }
+        return moves;
+    }
+
+    private static long forward(long squares, int team) {
+        return team == BitboardPosition.WHITE ? squares << 8 : squares >>> 8;
+    }
+}
@@ -0,0 +1,68 @@
+package com.chess.rules;
+
+import com.chess.model.BitboardPosition;
+
+/**
+ * Immutable result of analysing one side of a position: the legal destination
+ * mask of every piece of that side plus its check / checkmate / stalemate status.
+ * Safe to share between threads, which makes it the unit stored in AnalysisCache.
+ */
+public final class PositionAnalysis {
+    private final long key;
+    private final int team;
+    // Squares of the analysed side's pieces; legalMoves is in ascending square order
+    private final long pieces;
+    private final long[] legalMoves;
+    private final boolean check;
+    private final boolean checkmate;
+    private final boolean stalemate;
+
+    private PositionAnalysis(long key, int team, long pieces, long[] legalMoves, boolean check, boolean hasMoves) {
+        this.key = key;
+        this.team = team;
+        this.pieces = pieces;
+        this.legalMoves = legalMoves;
+        this.check = check;
+        this.checkmate = check && !hasMoves;
+        this.stalemate = !check && !hasMoves;
+    }
+
+    public static PositionAnalysis analyze(BitboardPosition position, int team, MoveGenerator generator) {
+        generator.reset(position, team);
+        long pieces = position.getOccupancy(team);
+        long[] legalMoves = new long[Long.bitCount(pieces)];
+        boolean hasMoves = false;
+        long remaining = pieces;
+        for (int i = 0; remaining != 0; i++) {
+            legalMoves[i] = generator.getLegalMoves(Long.numberOfTrailingZeros(remaining));
+            hasMoves |= legalMoves[i] != 0;
+            remaining &= remaining - 1;
+        }
+        return new PositionAnalysis(position.getHash(), team, pieces, legalMoves, generator.isCheck(), hasMoves);
+    }
+
+    public boolean matches(long key, int team) {
+        return this.key == key && this.team == team;
+    }
+
+    // Legal destination mask for the piece on the square (0 if it is not the analysed side's)
+    public long getLegalMoves(int from) {
+        long bit = 1L << from;
+        if ((pieces & bit) == 0) return 0L;
+        return legalMoves[Long.bitCount(pieces & (bit - 1))];
+    }
+
+    // Legal moves of the analysed side, counting each destination once (promotions included)
+    public int getMoveCount() {
+        int count = 0;
+        for (long moves : legalMoves) count += Long.bitCount(moves);
+        return count;
+    }
+
+    public long getKey() { return key; }
+    public long getPieces() { return pieces; }
+    public int getTeam() { return team; }
+    public boolean isCheck() { return check; }
+    public boolean isCheckmate() { return checkmate; }
+    public boolean isStalemate() { return stalemate; }
+}
@@ -0,0 +1,194 @@
+package com.chess.service;
+
+import com.chess.book.OpeningBook;
+import com.chess.cache.AnalysisCache;
+import com.chess.dto.AnalyzeRequest;
+import com.chess.dto.PieceMoves;
+import com.chess.dto.PositionRequest;
+import com.chess.metrics.AnalysisMetrics;
+import com.chess.metrics.AnalysisMetrics.Phase;
+import com.chess.model.BitboardPosition;
+import com.chess.model.PieceType;
+import com.chess.model.Square;
+import com.chess.model.Team;
+import com.chess.rules.*;
+import com.chess.tablebase.EndgameTablebase;
+import java.util.List;
+import java.util.Map;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * The /analyze pipeline: validation, green dots and game status for one move, plus the
+ * whole-position legal move map behind /moves. Both also list the opening book moves for
+ * the side to move, and its exact result when an endgame table covers the position. Shared by the single-move endpoint and the batch endpoint; safe to
+ * call concurrently.
+ */
+public class AnalysisService {
+
+    private static final System.Logger LOG = System.getLogger(AnalysisService.class.getName());
+
+    private final AnalysisCache analysisCache;
+    private final OpeningBook openingBook;
+    private final EndgameTablebase tablebase;
+    private final AnalysisMetrics metrics;
+
+    public AnalysisService(AnalysisCache analysisCache, OpeningBook openingBook, EndgameTablebase tablebase,
+                           AnalysisMetrics metrics) {
+        this.analysisCache = analysisCache;
+        this.openingBook = openingBook;
+        this.tablebase = tablebase;
+        this.metrics = metrics;
+    }
+
+    public Map<String, Object> analyze(AnalyzeRequest request) {
+        long start = metrics.start();
+        long lap = start;
+        try {
+            // --- 1. PARSE INPUT ---
+            // JSON piece array or FEN + UCI move, bound by the web layer and loaded straight into the bitboard
+            BitboardPosition position = request.toPosition();
+            int fromSquare = request.fromSquare();
+            int toSquare = request.toSquare();
+            PieceType pieceType = request.pieceType(position);
+            Team team = request.team(position);
+            // A FEN says whose turn it is; only the legacy piece array takes it from the moving piece
+            if (!request.isFen()) position.setSideToMove(team.index());
+            int moverTeam = position.getSideToMove();
+            boolean moversTurn = team.index() == moverTeam;
+            lap = metrics.lap(Phase.PARSE, lap);
+
+            // One analysis per side (cached by Zobrist key): checkers, pins and evasions are
+            // computed once and answer both the legality check and the green dots below.
+            MoveGenerator generator = new MoveGenerator();
+            PositionAnalysis moverAnalysis = analysisCache.analyze(position, moverTeam, generator);
+            long legalMoves = fromSquare < 0 || !moversTurn ? 0L : moverAnalysis.getLegalMoves(fromSquare);
+            lap = metrics.lap(Phase.MOVE_GENERATION, lap);
+
+            // --- 2. VALIDATION PHASE (Actual Move Security) ---
+            // This ensures you CANNOT kill the King or commit suicide.
+            
+            boolean isValid = true;
+            String errorReason = null;
+
+            // A FEN move by the side not to move
+            if (!moversTurn) {
+                isValid = false;
+                errorReason = "Not your turn";
+            }
+
+            // A. Check Direct King Capture
+            if (isValid && toSquare >= 0 && position.typeAt(toSquare) == BitboardPosition.KING) {
+                isValid = false;
+                errorReason = "Cannot capture King";
+            }
+            lap = metrics.lap(Phase.KING_CAPTURE, lap);
+
+            // B. Check Geometry
+            if (isValid && !validateMove(fromSquare, toSquare, pieceType, moverTeam, position)) {
+                isValid = false;
+                errorReason = "Invalid move geometry";
+            }
+            lap = metrics.lap(Phase.GEOMETRY, lap);
+
+            // C. Check Suicide (King Safety)
+            if (isValid && (legalMoves & Bitboards.bit(toSquare)) == 0) {
+                isValid = false;
+                errorReason = "Move puts King in check";
+            }
+            lap = metrics.lap(Phase.KING_SAFETY, lap);
+
+            // If move is invalid, we still want to calculate dots below (for UI refresh)
+            // But we will mark the response as valid=false
+
+            // --- 3. PREDICTION PHASE (Green Dots) ---
+            // Legal moves only, from the same generator that validated the move.
+            
+            List<Square> possibleMoves = Square.listOf(legalMoves);
+            lap = metrics.lap(Phase.POSSIBLE_MOVES, lap);
+            
+            // --- 4. GAME STATUS PHASE ---
+            // Play the move in place (reversible via the undo stack) instead of copying the board
+            if (isValid) position.makeMove(position.encodeMove(fromSquare, toSquare, request.promotionType()));
+            int opponentTeam = moverTeam ^ 1;
+            PositionAnalysis opponentAnalysis = analysisCache.analyze(position, opponentTeam, generator);
+            
+            boolean isCheckmate = opponentAnalysis.isCheckmate();
+            boolean isStalemate = opponentAnalysis.isStalemate();
+            boolean isCheck = opponentAnalysis.isCheck();
+            // Fifty/seventy-five-move rule from the FEN halfmove clock; repetitions need game history
+            String drawReason = isCheckmate || isStalemate ? null : CheckmateDetector.drawReason(position);
+            lap = metrics.lap(Phase.GAME_STATUS, lap);
+
+            String winningTeam = isCheckmate ? team.getName() : null;
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("valid", isValid);
+            response.put("possibleMoves", possibleMoves); // SEND ALL DOTS
+            response.put("isCheckmate", isCheckmate);
+            response.put("isStalemate", isStalemate);
+            response.put("isCheck", isCheck);
+            response.put("drawReason", drawReason);
+            response.put("winningTeam", winningTeam);
+            // Every legal move of the side now to move, so the client can show dots locally
+            response.put("legalMoves", PieceMoves.listOf(isValid ? opponentAnalysis : moverAnalysis, position));
+            response.put("bookMoves", openingBook.lookup(position));
+            response.put("tablebase", tablebase.probe(position));
+            // The FEN form says whose turn it is, so a move out of turn is an error of the request
+            if (!moversTurn) response.put("error", errorReason);
+            metrics.lap(Phase.RESPONSE, lap);
+
+            // Invalid moves are counted by reason rather than logged on the hot path
+            metrics.finish(start, pieceType, errorReason, moverAnalysis, opponentAnalysis);
+            return response;
+
+        } catch (Exception e) {
+            // Bad requests are counted by exception type; the trace is only kept at debug level
+            metrics.error(e);
+            LOG.log(System.Logger.Level.DEBUG, "analyze failed", e);
+            String message = e.getMessage() != null ? e.getMessage() : e.toString();
+            return Map.of("valid", false, "possibleMoves", new ArrayList<>(), "error", message);
+        }
+    }
+
+    // Legal move map and status for the side to move, without playing anything
+    public Map<String, Object> legalMoves(PositionRequest request) {
+        try {
+            BitboardPosition position = request.toPosition();
+            int team = position.getSideToMove();
+            PositionAnalysis analysis = analysisCache.analyze(position, team, new MoveGenerator());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("team", BitboardPosition.teamName(team));
+            response.put("legalMoves", PieceMoves.listOf(analysis, position));
+            response.put("bookMoves", openingBook.lookup(position));
+            response.put("tablebase", tablebase.probe(position));
+            response.put("isCheck", analysis.isCheck());
+            response.put("isCheckmate", analysis.isCheckmate());
+            response.put("isStalemate", analysis.isStalemate());
+            response.put("drawReason", analysis.isCheckmate() || analysis.isStalemate() ? null : CheckmateDetector.drawReason(position));
+            return response;
+
+        } catch (Exception e) {
+            metrics.error(e);
+            LOG.log(System.Logger.Level.DEBUG, "legalMoves failed", e);
+            String message = e.getMessage() != null ? e.getMessage() : e.toString();
+            return Map.of("legalMoves", new ArrayList<>(), "error", message);
+        }
+    }
+
+    // --- HELPERS ---
+
+    private boolean validateMove(int from, int to, PieceType pieceType, int team, BitboardPosition position) {
+        if (from < 0 || to < 0 || from == to || pieceType == null) return false;
+        switch (pieceType) {
+            case PAWN: return PawnRules.isValidMove(from, to, team, position);
+            case ROOK: return RookRules.isValidMove(from, to, team, position);
+            case KNIGHT: return KnightRules.isValidMove(from, to, team, position);
+            case BISHOP: return BishopRules.isValidMove(from, to, team, position);
+            case QUEEN: return QueenRules.isValidMove(from, to, team, position);
+            case KING: return KingRules.isValidMove(from, to, team, position);
+            default: return false;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.chess.tablebase;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.MoveList;
+import com.chess.rules.Bitboards;
+import com.chess.rules.MoveGenerator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.chess.model.BitboardPosition.*;
+
+/**
+ * Runtime prober for the tables written by TablebaseGenerator. Every table in
+ * chess.tablebase.path is mapped read-only at startup; a probe computes the position's
+ * index and reads one byte, so it costs O(1) whatever the distance to mate. With no
+ * path configured, or for a position without a table, probes return null and callers
+ * fall back to their usual analysis.
+ *
+ * Tables assume no castling and no en passant rights, so positions that still have
+ * either are not probed.
+ */
+public class EndgameTablebase {
+
+    private static final System.Logger LOG = System.getLogger(EndgameTablebase.class.getName());
+
+    private final Map<String, TableFile> tables = new HashMap<>();
+
+    public EndgameTablebase(String path) {
+        if (path == null || path.isBlank()) return;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Path.of(path.trim()), "*" + TableFile.EXTENSION)) {
+            for (Path file : files) {
+                TableFile table = TableFile.map(file);
+                tables.put(table.material.name, table);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open tablebase directory " + path, e);
+        }
+        LOG.log(System.Logger.Level.INFO, "Endgame tablebases {0}: {1}", path, tables.keySet());
+    }
+
+    public boolean isEnabled() {
+        return !tables.isEmpty();
+    }
+
+    // Exact result for the side to move, or null if no table covers the position
+    public TablebaseResult probe(BitboardPosition position) {
+        int entry = entry(position);
+        if (entry == TableEntry.INVALID) return null;
+        String team = BitboardPosition.teamName(position.getSideToMove());
+        String table = Material.nameOf(position);
+        if (TableEntry.isWin(entry)) return new TablebaseResult(team, "win", (TableEntry.plies(entry) + 1) / 2, table);
+        if (TableEntry.isLoss(entry)) return new TablebaseResult(team, "loss", TableEntry.plies(entry) / 2, table);
+        return new TablebaseResult(team, "draw", null, table);
+    }
+
+    // Move that keeps the best result (fastest win, slowest loss), or 0 when the position
+    // or any of its successors is not covered by a table
+    public int bestMove(BitboardPosition position) {
+        if (entry(position) == TableEntry.INVALID) return 0;
+        MoveList moves = new MoveList();
+        new MoveGenerator(position, position.getSideToMove()).generate(moves);
+
+        int bestMove = 0;
+        int best = TableEntry.INVALID;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            position.makeMove(move);
+            int child = entry(position);
+            position.unmakeMove(move);
+            if (child == TableEntry.INVALID) return 0;
+            int value = TableEntry.parent(child);
+            if (best == TableEntry.INVALID || TableEntry.rank(value) > TableEntry.rank(best)) {
+                best = value;
+                bestMove = move;
+            }
+        }
+        return bestMove;
+    }
+
+    // --- HELPERS ---
+
+    // Table entry for the position, INVALID when it cannot be probed
+    private int entry(BitboardPosition position) {
+        int pieces = Long.bitCount(position.getOccupied());
+        if (pieces > Material.MAX_PIECES || position.getCastlingRights() != 0 || hasEnPassantCapture(position)) {
+            return TableEntry.INVALID;
+        }
+        if (position.kingSquare(WHITE) < 0 || position.kingSquare(BLACK) < 0) return TableEntry.INVALID;
+        if (pieces == 2) return TableEntry.DRAW;
+        TableFile table = tables.get(Material.nameOf(position));
+        return table == null ? TableEntry.INVALID : table.probe(position);
+    }
+
+    private static boolean hasEnPassantCapture(BitboardPosition position) {
+        int square = position.getEnPassantSquare();
+        int side = position.getSideToMove();
+        return square >= 0 && (Bitboards.PAWN_ATTACKS[side ^ 1][square] & position.getPieces(side, PAWN)) != 0;
+    }
+}
@@ -0,0 +1,189 @@
+package com.chess.tablebase;
+
+import com.chess.model.BitboardPosition;
+
+import static com.chess.model.BitboardPosition.*;
+
+/**
+ * One endgame table's material signature (e.g. "KQKR": the stronger side's pieces, then
+ * the weaker side's) and its position index.
+ *
+ * Tables are built with the stronger side as white. A position where black holds the
+ * stronger material is looked up colour-flipped (mirrored top to bottom, sides swapped).
+ * With no castling rights, a left-right mirror also preserves the result, so the
+ * stronger king is always moved onto files a-d.
+ *
+ * Index layout: side to move (2) x stronger king square (32) x 64 per other piece.
+ * Identical pieces (e.g. the knights of KNNK) are kept in ascending square order, so
+ * each position has exactly one index. Indices with any other order are unused.
+ */
+final class Material {
+
+    static final int MAX_PIECES = 4;
+
+    // Strongest first; also the order of a side's pieces within a signature
+    private static final String ORDER = "KQRBNP";
+    private static final int[] TYPES = {KING, QUEEN, ROOK, BISHOP, KNIGHT, PAWN};
+
+    final String name;
+    // Per piece slot, in the canonical (stronger side = white) frame
+    final int[] teams;
+    final int[] types;
+    final int size;
+
+    private Material(String name, int[] teams, int[] types) {
+        this.name = name;
+        this.teams = teams;
+        this.types = types;
+        this.size = 2 * 32 << (6 * (types.length - 1));
+    }
+
+    static Material parse(String name) {
+        String upper = name.trim().toUpperCase();
+        int split = upper.indexOf('K', 1);
+        if (!upper.startsWith("K") || split < 0 || upper.length() > MAX_PIECES) {
+            throw new IllegalArgumentException("Not a 3-4 piece material signature: " + name);
+        }
+        String strong = upper.substring(0, split);
+        String weak = upper.substring(split);
+        if (!isCanonical(strong) || !isCanonical(weak) || compare(strong, weak) < 0) {
+            throw new IllegalArgumentException("Not a canonical material signature: " + name
+                    + " (expected the stronger side first, pieces in KQRBNP order)");
+        }
+        int[] teams = new int[upper.length()];
+        int[] types = new int[upper.length()];
+        for (int i = 0; i < upper.length(); i++) {
+            teams[i] = i < split ? WHITE : BLACK;
+            types[i] = TYPES[ORDER.indexOf(upper.charAt(i))];
+        }
+        return new Material(upper, teams, types);
+    }
+
+    int pieceCount() { return types.length; }
+
+    // --- 1. SIGNATURES ---
+
+    // "KQ", "KRP", ... for one side of a position
+    static String side(BitboardPosition position, int team) {
+        StringBuilder side = new StringBuilder();
+        for (int i = 0; i < TYPES.length; i++) {
+            int count = Long.bitCount(position.getPieces(team, TYPES[i]));
+            for (int j = 0; j < count; j++) side.append(ORDER.charAt(i));
+        }
+        return side.toString();
+    }
+
+    // True when black holds the stronger material, so the position is looked up flipped
+    static boolean strongIsBlack(BitboardPosition position) {
+        return compare(side(position, WHITE), side(position, BLACK)) < 0;
+    }
+
+    static String nameOf(BitboardPosition position) {
+        String white = side(position, WHITE);
+        String black = side(position, BLACK);
+        return compare(white, black) >= 0 ? white + black : black + white;
+    }
+
+    // More pieces is stronger; otherwise compare piece by piece in KQRBNP order
+    private static int compare(String a, String b) {
+        if (a.length() != b.length()) return a.length() - b.length();
+        for (int i = 0; i < a.length(); i++) {
+            int diff = ORDER.indexOf(b.charAt(i)) - ORDER.indexOf(a.charAt(i));
+            if (diff != 0) return diff;
+        }
+        return 0;
+    }
+
+    private static boolean isCanonical(String side) {
+        if (side.isEmpty() || side.charAt(0) != 'K') return false;
+        for (int i = 1; i < side.length(); i++) {
+            int order = ORDER.indexOf(side.charAt(i));
+            if (order <= 0 || order < ORDER.indexOf(side.charAt(i - 1))) return false;
+        }
+        return true;
+    }
+
+    // --- 2. INDEXING ---
+
+    // Index of a position with this material, or -1 if it does not fit the table
+    int indexOf(BitboardPosition position) {
+        boolean flip = strongIsBlack(position);
+        int[] squares = new int[types.length];
+        int slot = 0;
+        while (slot < types.length) {
+            int team = flip ? teams[slot] ^ 1 : teams[slot];
+            long pieces = position.getPieces(team, types[slot]);
+            // Fill every slot of a group of identical pieces from the same bitboard
+            for (int group = slot; slot < types.length && teams[slot] == teams[group] && types[slot] == types[group]; slot++) {
+                if (pieces == 0) return -1;
+                int square = Long.numberOfTrailingZeros(pieces);
+                pieces &= pieces - 1;
+                squares[slot] = flip ? square ^ 56 : square;
+            }
+        }
+        int side = flip ? position.getSideToMove() ^ 1 : position.getSideToMove();
+        return index(squares, side);
+    }
+
+    // Index of piece squares in the canonical frame; mirrors and re-sorts a copy as needed
+    int index(int[] squares, int sideToMove) {
+        int[] s = squares.clone();
+        if ((s[0] & 7) >= 4) {
+            for (int i = 0; i < s.length; i++) s[i] ^= 7;
+        }
+        sortIdenticalPieces(s);
+        int index = sideToMove * 32 + (s[0] >>> 3) * 4 + (s[0] & 7);
+        for (int i = 1; i < s.length; i++) index = index << 6 | s[i];
+        return index;
+    }
+
+    // Fills the squares for an index and returns the side to move, or -1 for an unused index
+    int decode(int index, int[] squares) {
+        for (int i = squares.length - 1; i >= 1; i--) {
+            squares[i] = index & 63;
+            index >>>= 6;
+        }
+        int king = index & 31;
+        squares[0] = (king >>> 2) * 8 + (king & 3);
+        for (int i = 1; i < squares.length; i++) {
+            if (isSameGroup(i - 1, i) && squares[i - 1] >= squares[i]) return -1;
+        }
+        return index >>> 5;
+    }
+
+    // --- 3. POSITIONS ---
+
+    // Board for decoded squares, or null if two pieces share a square or a pawn is on a back rank
+    BitboardPosition toPosition(int[] squares, int sideToMove) {
+        BitboardPosition position = new BitboardPosition();
+        long occupied = 0L;
+        for (int i = 0; i < squares.length; i++) {
+            int square = squares[i];
+            if ((occupied & (1L << square)) != 0) return null;
+            occupied |= 1L << square;
+            boolean hasMoved = true;
+            if (types[i] == PAWN) {
+                int rank = square >>> 3;
+                if (rank == 0 || rank == 7) return null;
+                hasMoved = rank != (teams[i] == WHITE ? 1 : 6);
+            }
+            position.put(square, teams[i], types[i], hasMoved);
+        }
+        position.setSideToMove(sideToMove);
+        return position;
+    }
+
+    private void sortIdenticalPieces(int[] s) {
+        for (int i = 1; i < s.length; i++) {
+            for (int j = i; j > 1 && isSameGroup(j - 1, j) && s[j - 1] > s[j]; j--) {
+                int square = s[j];
+                s[j] = s[j - 1];
+                s[j - 1] = square;
+            }
+        }
+    }
+
+    private boolean isSameGroup(int a, int b) {
+        return teams[a] == teams[b] && types[a] == types[b];
+    }
+}
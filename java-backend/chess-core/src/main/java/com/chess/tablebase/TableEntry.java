@@ -0,0 +1,52 @@
+package com.chess.tablebase;
+
+/**
+ * One-byte table entry: result and distance to mate for the side to move, counted in
+ * plies. A win ends in mate after an odd number of plies and a loss after an even one,
+ * so both fit in seven bits:
+ *
+ *   0         draw
+ *   1..127    win, mate after 2n - 1 plies
+ *   128..254  loss, mated after 2(n - 128) plies (128 = checkmated now)
+ *   255       unused index (illegal position or non-canonical order)
+ */
+final class TableEntry {
+
+    static final int DRAW = 0;
+    static final int INVALID = 255;
+
+    private TableEntry() {}
+
+    static int win(int plies) {
+        if (plies > 253) throw new IllegalStateException("Distance to mate too long for the table format: " + plies);
+        return (plies + 1) / 2;
+    }
+
+    static int loss(int plies) {
+        if (plies > 252) throw new IllegalStateException("Distance to mate too long for the table format: " + plies);
+        return 128 + plies / 2;
+    }
+
+    static boolean isWin(int entry) { return entry >= 1 && entry <= 127; }
+    static boolean isLoss(int entry) { return entry >= 128 && entry <= 254; }
+
+    static int plies(int entry) {
+        if (isWin(entry)) return entry * 2 - 1;
+        if (isLoss(entry)) return (entry - 128) * 2;
+        return 0;
+    }
+
+    // Entry for the side that made the move leading to a position with this entry
+    static int parent(int child) {
+        if (isWin(child)) return loss(plies(child) + 1);
+        if (isLoss(child)) return win(plies(child) + 1);
+        return DRAW;
+    }
+
+    // Orders entries for the side to move: faster wins first, slower losses last
+    static int rank(int entry) {
+        if (isWin(entry)) return 1000 - plies(entry);
+        if (isLoss(entry)) return -1000 + plies(entry);
+        return 0;
+    }
+}
@@ -0,0 +1,80 @@
+package com.chess.tablebase;
+
+import com.chess.model.BitboardPosition;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * On-disk table: a 16-byte header (magic, entry count, piece count) followed by one
+ * TableEntry byte per index, named after its material ("KQKR.ctb"). Tables are mapped
+ * read-only, so a probe is a single byte read from the page cache.
+ */
+final class TableFile {
+
+    static final String EXTENSION = ".ctb";
+
+    private static final byte[] MAGIC = "CHESSTB1".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_BYTES = 16;
+
+    final Material material;
+    private final MappedByteBuffer entries;
+
+    private TableFile(Material material, MappedByteBuffer entries) {
+        this.material = material;
+        this.entries = entries;
+    }
+
+    static Path path(Path directory, String name) {
+        return directory.resolve(name + EXTENSION);
+    }
+
+    static TableFile map(Path file) throws IOException {
+        String fileName = file.getFileName().toString();
+        Material material = Material.parse(fileName.substring(0, fileName.length() - EXTENSION.length()));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (buffer.get(i) != MAGIC[i]) throw new IOException("Not a tablebase file: " + file);
+            }
+            if (buffer.getInt(8) != material.size || buffer.getInt(12) != material.pieceCount()
+                    || channel.size() != HEADER_BYTES + (long) material.size) {
+                throw new IOException("Tablebase file does not match its material " + material.name + ": " + file);
+            }
+            return new TableFile(material, buffer);
+        }
+    }
+
+    static void write(Path directory, Material material, byte[] entries) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+        header.put(MAGIC).putInt(entries.length).putInt(material.pieceCount()).flip();
+        // Written under a temporary name and moved into place, so a reader never maps half a table
+        Path target = path(directory, material.name);
+        Path partial = directory.resolve(material.name + EXTENSION + ".tmp");
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.write(header);
+            ByteBuffer body = ByteBuffer.wrap(entries);
+            while (body.hasRemaining()) channel.write(body);
+        }
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    int entry(int index) {
+        return entries.get(HEADER_BYTES + index) & 0xFF;
+    }
+
+    // Entry for a position with this table's material (TableEntry.INVALID if it does not fit)
+    int probe(BitboardPosition position) {
+        int index = material.indexOf(position);
+        return index < 0 ? TableEntry.INVALID : entry(index);
+    }
+}
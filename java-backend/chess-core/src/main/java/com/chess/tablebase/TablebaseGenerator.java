@@ -0,0 +1,236 @@
+package com.chess.tablebase;
+
+import com.chess.model.BitboardPosition;
+import com.chess.model.Move;
+import com.chess.model.MoveList;
+import com.chess.rules.Bitboards;
+import com.chess.rules.MoveGenerator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.chess.model.BitboardPosition.*;
+
+/**
+ * Offline retrograde generator for 3- and 4-piece tables, run once per deployment:
+ *
+ *   java -cp target/benchmarks.jar com.chess.tablebase.TablebaseGenerator <dir> [KQK KRK ... | all]
+ *
+ * Every position of a table is first classified with the regular move generator: mates,
+ * stalemates, and the best result over moves that leave the table (captures and
+ * promotions, looked up in smaller or already generated tables). Results then spread
+ * backwards one ply at a time by un-moving pieces: a predecessor of a loss in n is a
+ * win in n + 1, and a position whose moves all lead to opponent wins is a loss. Whatever
+ * is left unresolved is a draw.
+ *
+ * Tables are generated on demand, dependencies first, and read back through the same
+ * memory-mapped files the server probes. En passant rights are not part of a table.
+ */
+public final class TablebaseGenerator {
+
+    private static final String[] PIECES = {"Q", "R", "B", "N", "P"};
+
+    private final Path directory;
+    private final Map<String, TableFile> tables = new HashMap<>();
+
+    public TablebaseGenerator(Path directory) {
+        this.directory = directory;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: TablebaseGenerator <dir> [signature ... | all]");
+            System.exit(2);
+        }
+        Path directory = Path.of(args[0]);
+        Files.createDirectories(directory);
+        List<String> names = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equalsIgnoreCase("all")) names.addAll(allSignatures());
+            else names.add(args[i].toUpperCase());
+        }
+        if (names.isEmpty()) names.addAll(allSignatures());
+
+        TablebaseGenerator generator = new TablebaseGenerator(directory);
+        for (String name : names) generator.table(name);
+    }
+
+    // KXK, KXYK and KXKY for every piece type other than the king
+    public static List<String> allSignatures() {
+        List<String> names = new ArrayList<>();
+        for (String piece : PIECES) names.add("K" + piece + "K");
+        for (int i = 0; i < PIECES.length; i++) {
+            for (int j = i; j < PIECES.length; j++) {
+                names.add("K" + PIECES[i] + PIECES[j] + "K");
+                names.add("K" + PIECES[i] + "K" + PIECES[j]);
+            }
+        }
+        return names;
+    }
+
+    // Table from disk, generating (and writing) it first if it does not exist yet
+    TableFile table(String name) throws IOException {
+        TableFile table = tables.get(name);
+        if (table != null) return table;
+        Path file = TableFile.path(directory, name);
+        if (!Files.exists(file)) {
+            Material material = Material.parse(name);
+            long start = System.nanoTime();
+            byte[] entries = generate(material);
+            TableFile.write(directory, material, entries);
+            System.out.printf("%-6s %,12d positions  %6.1f s%n", name, entries.length, (System.nanoTime() - start) / 1e9);
+        }
+        table = TableFile.map(file);
+        tables.put(name, table);
+        return table;
+    }
+
+    byte[] generate(Material material) throws IOException {
+        int size = material.size;
+        byte[] result = new byte[size];
+        // In-table moves whose outcome is not known yet, and the best move out of the table
+        byte[] remaining = new byte[size];
+        byte[] exit = new byte[size];
+        int maxPlies = initialize(material, result, remaining, exit);
+
+        int[] squares = new int[material.pieceCount()];
+        int[] scratch = new int[squares.length];
+        int[] parents = new int[256];
+        for (int plies = 0; plies <= maxPlies; plies++) {
+            for (int index = 0; index < size; index++) {
+                int entry = result[index] & 0xFF;
+                // A winning capture or promotion counts once no faster in-table win was found
+                if (entry == TableEntry.DRAW && TableEntry.isWin(exit[index] & 0xFF) && TableEntry.plies(exit[index] & 0xFF) == plies) {
+                    result[index] = (byte) (entry = exit[index] & 0xFF);
+                }
+                if (entry == TableEntry.DRAW || entry == TableEntry.INVALID || TableEntry.plies(entry) != plies) continue;
+
+                int sideToMove = material.decode(index, squares);
+                int count = predecessors(material, squares, sideToMove, scratch, parents);
+                for (int i = 0; i < count; i++) {
+                    int parent = parents[i];
+                    if (result[parent] != TableEntry.DRAW) continue;
+                    if (TableEntry.isLoss(entry)) {
+                        result[parent] = (byte) TableEntry.win(plies + 1);
+                        maxPlies = Math.max(maxPlies, plies + 1);
+                    } else if (--remaining[parent] == 0) {
+                        int escape = exit[parent] & 0xFF;
+                        if (escape == TableEntry.INVALID || TableEntry.isLoss(escape)) {
+                            int lossPlies = Math.max(plies + 1, TableEntry.plies(escape));
+                            result[parent] = (byte) TableEntry.loss(lossPlies);
+                            maxPlies = Math.max(maxPlies, lossPlies);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // --- 1. INITIAL CLASSIFICATION ---
+
+    // Marks unused indices, mates and stalemates, counts in-table moves and records the best
+    // move out of the table; returns the longest distance to mate seen so far
+    private int initialize(Material material, byte[] result, byte[] remaining, byte[] exit) throws IOException {
+        int[] squares = new int[material.pieceCount()];
+        MoveGenerator generator = new MoveGenerator();
+        MoveList moves = new MoveList();
+        int maxPlies = 0;
+
+        for (int index = 0; index < material.size; index++) {
+            int sideToMove = material.decode(index, squares);
+            BitboardPosition position = sideToMove < 0 ? null : material.toPosition(squares, sideToMove);
+            // Unused order, overlapping pieces, or the side that just moved left in check
+            if (position == null || position.isAttacked(position.kingSquare(sideToMove ^ 1), sideToMove)) {
+                result[index] = (byte) TableEntry.INVALID;
+                continue;
+            }
+
+            generator.reset(position, sideToMove);
+            moves.clear();
+            generator.generate(moves);
+            if (moves.isEmpty()) {
+                result[index] = (byte) (generator.isCheck() ? TableEntry.loss(0) : TableEntry.DRAW);
+                continue;
+            }
+
+            int inTable = 0;
+            int best = TableEntry.INVALID;
+            for (int i = 0; i < moves.size(); i++) {
+                int move = moves.get(i);
+                boolean leavesTable = position.pieceAt(Move.to(move)) != EMPTY
+                        || Move.flag(move) == Move.EN_PASSANT || Move.promotion(move) != 0;
+                if (!leavesTable) {
+                    inTable++;
+                    continue;
+                }
+                position.makeMove(move);
+                int value = TableEntry.parent(probe(position));
+                position.unmakeMove(move);
+                if (best == TableEntry.INVALID || TableEntry.rank(value) > TableEntry.rank(best)) best = value;
+            }
+
+            remaining[index] = (byte) inTable;
+            exit[index] = (byte) best;
+            if (inTable == 0) result[index] = (byte) best;
+            if (best != TableEntry.INVALID) maxPlies = Math.max(maxPlies, TableEntry.plies(best));
+        }
+        return maxPlies;
+    }
+
+    // Entry for the side to move after a capture or promotion
+    private int probe(BitboardPosition position) throws IOException {
+        if (Long.bitCount(position.getOccupied()) == 2) return TableEntry.DRAW;
+        return table(Material.nameOf(position)).probe(position);
+    }
+
+    // --- 2. UN-MOVES ---
+
+    // Fills the indices of the positions one quiet move earlier (the side not to move takes
+    // back a non-capturing, non-promoting move) and returns how many there are. Illegal
+    // predecessors are already marked INVALID.
+    private static int predecessors(Material material, int[] squares, int sideToMove, int[] scratch, int[] parents) {
+        int count = 0;
+        int mover = sideToMove ^ 1;
+        long occupied = 0L;
+        for (int square : squares) occupied |= Bitboards.bit(square);
+
+        for (int slot = 0; slot < squares.length; slot++) {
+            if (material.teams[slot] != mover) continue;
+            int square = squares[slot];
+            long origins;
+            switch (material.types[slot]) {
+                case KNIGHT -> origins = Bitboards.KNIGHT_ATTACKS[square];
+                case BISHOP -> origins = Bitboards.bishopAttacks(square, occupied);
+                case ROOK -> origins = Bitboards.rookAttacks(square, occupied);
+                case QUEEN -> origins = Bitboards.queenAttacks(square, occupied);
+                case KING -> origins = Bitboards.KING_ATTACKS[square];
+                default -> origins = pawnOrigins(square, mover, occupied);
+            }
+            origins &= ~occupied;
+
+            while (origins != 0) {
+                System.arraycopy(squares, 0, scratch, 0, squares.length);
+                scratch[slot] = Long.numberOfTrailingZeros(origins);
+                origins &= origins - 1;
+                parents[count++] = material.index(scratch, mover);
+            }
+        }
+        return count;
+    }
+
+    // Squares a pawn can have come from with a single or double push
+    private static long pawnOrigins(int square, int team, long occupied) {
+        int step = team == WHITE ? -8 : 8;
+        int single = square + step;
+        int homeRank = team == WHITE ? 1 : 6;
+        if (single >>> 3 == 0 || single >>> 3 == 7 || (occupied & Bitboards.bit(single)) != 0) return 0L;
+        long origins = Bitboards.bit(single);
+        if (single >>> 3 == homeRank + (team == WHITE ? 1 : -1)) origins |= Bitboards.bit(single + step);
+        return origins;
+    }
+}
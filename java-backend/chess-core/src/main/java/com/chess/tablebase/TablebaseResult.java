@@ -0,0 +1,7 @@
+package com.chess.tablebase;
+
+/**
+ * Exact endgame result for the side to move: "win", "draw" or "loss", with the number of
+ * moves until mate (given or received; null for a draw) under best play by both sides.
+ */
+public record TablebaseResult(String team, String outcome, Integer mateIn, String table) {}
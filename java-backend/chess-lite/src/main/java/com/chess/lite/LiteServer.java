@@ -0,0 +1,159 @@
+package com.chess.lite;
+
+import com.chess.book.OpeningBook;
+import com.chess.cache.AnalysisCache;
+import com.chess.dto.AnalyzeRequest;
+import com.chess.dto.Coordinates;
+import com.chess.dto.PieceDto;
+import com.chess.metrics.AnalysisMetrics;
+import com.chess.service.AnalysisService;
+import com.chess.tablebase.EndgameTablebase;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * POST /api/chess/analyze on the JDK HTTP server: the same AnalysisService as the Spring
+ * backend, wired by hand and bound by the hand-written codec in Json, so startup is just
+ * the JVM plus a few hundred classes. Settings are system properties with the backend's
+ * names (-Dserver.port, -Dchess.book.path, -Dchess.analysis-cache.entries, ...).
+ *
+ * Responses match the backend field for field; the other endpoints stay in chess-backend.
+ */
+public final class LiteServer {
+
+    private static final System.Logger LOG = System.getLogger(LiteServer.class.getName());
+
+    private static final String ANALYZE_PATH = "/api/chess/analyze";
+
+    private final AnalysisService analysisService;
+
+    private LiteServer(AnalysisService analysisService) {
+        this.analysisService = analysisService;
+    }
+
+    public static void main(String[] args) throws IOException {
+        AnalysisService analysisService = new AnalysisService(
+                new AnalysisCache(Integer.getInteger("chess.analysis-cache.entries", 65536),
+                        System.getProperty("chess.analysis-cache.policy", "two-way")),
+                new OpeningBook(System.getProperty("chess.book.path", ""), System.getProperty("chess.book.keys", "")),
+                new EndgameTablebase(System.getProperty("chess.tablebase.path", "")),
+                new AnalysisMetrics(Boolean.parseBoolean(System.getProperty("chess.metrics.enabled", "true"))));
+        LiteServer handler = new LiteServer(analysisService);
+
+        int port = Integer.getInteger("server.port", 8080);
+        int threads = Integer.getInteger("chess.lite.threads", 0);
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors()));
+        server.createContext("/", handler::handle);
+        server.start();
+        LOG.log(System.Logger.Level.INFO, "Chess lite server on port {0}", String.valueOf(port));
+    }
+
+    // --- HTTP ---
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            exchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
+            String method = exchange.getRequestMethod();
+            if (method.equals("OPTIONS")) {
+                exchange.getResponseHeaders().add("Access-Control-Allow-Methods", "POST");
+                exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "*");
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            if (!exchange.getRequestURI().getPath().equals(ANALYZE_PATH)) {
+                send(exchange, 404, Map.of("error", "Not found"));
+                return;
+            }
+            if (!method.equals("POST")) {
+                send(exchange, 405, Map.of("error", "Method not allowed"));
+                return;
+            }
+
+            AnalyzeRequest request;
+            try {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                request = analyzeRequest(Json.parse(body));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, Map.of("error", e.getMessage()));
+                return;
+            }
+            // analyze reports bad positions and moves in the response itself, like the backend
+            send(exchange, 200, analysisService.analyze(request));
+        } catch (Exception e) {
+            LOG.log(System.Logger.Level.WARNING, "Request failed", e);
+            send(exchange, 500, Map.of("error", String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+        byte[] bytes = Json.write(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // --- BINDING ---
+    // Mirrors Jackson's defaults for the request records: unknown fields are ignored, a
+    // missing object or string is null, a missing number or boolean is 0 or false.
+
+    static AnalyzeRequest analyzeRequest(Object json) {
+        Map<?, ?> map = object(json, "request");
+        List<PieceDto> boardState = null;
+        if (map.get("boardState") != null) {
+            if (!(map.get("boardState") instanceof List)) throw new IllegalArgumentException("boardState must be an array");
+            boardState = new ArrayList<>();
+            for (Object piece : (List<?>) map.get("boardState")) boardState.add(pieceDto(piece));
+        }
+        return new AnalyzeRequest(coordinates(map.get("from")), coordinates(map.get("to")), pieceDto(map.get("piece")),
+                boardState, integer(map.get("totalMoves"), "totalMoves"),
+                string(map.get("fen"), "fen"), string(map.get("move"), "move"), string(map.get("promotion"), "promotion"));
+    }
+
+    private static PieceDto pieceDto(Object json) {
+        if (json == null) return null;
+        Map<?, ?> map = object(json, "piece");
+        return new PieceDto(coordinates(map.get("position")), string(map.get("type"), "type"),
+                string(map.get("team"), "team"), bool(map.get("hasMoved"), "hasMoved"), bool(map.get("enPassant"), "enPassant"));
+    }
+
+    private static Coordinates coordinates(Object json) {
+        if (json == null) return null;
+        Map<?, ?> map = object(json, "coordinates");
+        return new Coordinates(integer(map.get("x"), "x"), integer(map.get("y"), "y"));
+    }
+
+    private static Map<?, ?> object(Object json, String name) {
+        if (!(json instanceof Map)) throw new IllegalArgumentException(name + " must be an object");
+        return (Map<?, ?>) json;
+    }
+
+    private static String string(Object json, String name) {
+        if (json == null || json instanceof String) return (String) json;
+        throw new IllegalArgumentException(name + " must be a string");
+    }
+
+    private static int integer(Object json, String name) {
+        if (json == null) return 0;
+        if (json instanceof Number) return ((Number) json).intValue();
+        throw new IllegalArgumentException(name + " must be a number");
+    }
+
+    private static boolean bool(Object json, String name) {
+        if (json == null) return false;
+        if (json instanceof Boolean) return (Boolean) json;
+        throw new IllegalArgumentException(name + " must be a boolean");
+    }
+}
@@ -30,10 +30,56 @@ export interface AnalyzeMoveResponse {
   isCheckmate?: boolean
   isStalemate?: boolean
   isCheck?: boolean
+  drawReason?: DrawReason | null
   winningTeam?: string
+  legalMoves?: PieceMoves[]
+  bookMoves?: BookMove[]
+  tablebase?: TablebaseResult | null
   error?: string
 }
 
+export interface PieceMoves {
+  from: { x: number; y: number }
+  type: string
+  moves: { x: number; y: number }[]
+}
+
+export interface LegalMovesResponse {
+  team: string
+  legalMoves: PieceMoves[]
+  isCheck: boolean
+  isCheckmate: boolean
+  isStalemate: boolean
+  drawReason?: DrawReason | null
+  bookMoves?: BookMove[]
+  tablebase?: TablebaseResult | null
+  error?: string
+}
+
+// Draws by rule; stalemate is reported on its own. Threefold repetition and the fifty-move
+// rule can be claimed while the game stays active; the other two end it.
+export type DrawReason =
+  | "threefold-repetition"
+  | "fifty-move-rule"
+  | "seventy-five-move-rule"
+  | "fivefold-repetition"
+
+export interface BookMove {
+  move: string
+  from: { x: number; y: number }
+  to: { x: number; y: number }
+  promotion: string | null
+  weight: number
+}
+
+// Exact endgame result for the side to move; mateIn counts moves (null for a draw)
+export interface TablebaseResult {
+  team: string
+  outcome: "win" | "draw" | "loss"
+  mateIn: number | null
+  table: string
+}
+
 /**
  * Single unified endpoint that returns both move validation AND possible moves.
  * Much faster than making 2 separate API calls.
@@ -69,3 +115,178 @@ export async function analyzeMove(request: AnalyzeMoveRequest): Promise<AnalyzeM
     }
   }
 }
+
+export interface GameState {
+  id: string
+  fen: string
+  sideToMove: string
+  ply: number
+  status: string
+  isCheck: boolean
+  isCheckmate: boolean
+  isStalemate: boolean
+  winningTeam?: string
+  drawReason?: DrawReason | null
+  lastMove?: string
+}
+
+export interface MoveResult {
+  valid: boolean
+  error?: string
+  game: GameState
+}
+
+/**
+ * Creates a server-side game. After this only moves are sent, not the whole board.
+ */
+export async function createGame(fen?: string): Promise<GameState> {
+  const response = await fetch(`${API_BASE_URL}/games`, {
+    method: "POST",
+    headers: {
+      "Content-Type": "application/json",
+    },
+    body: JSON.stringify(fen ? { fen } : {}),
+  })
+  if (!response.ok) throw new Error(`HTTP error! status: ${response.status}`)
+  return response.json()
+}
+
+export async function playGameMove(
+  gameId: string,
+  from: { x: number; y: number },
+  to: { x: number; y: number },
+): Promise<MoveResult> {
+  const response = await fetch(`${API_BASE_URL}/games/${gameId}/moves`, {
+    method: "POST",
+    headers: {
+      "Content-Type": "application/json",
+    },
+    body: JSON.stringify({ from, to }),
+  })
+  if (!response.ok) throw new Error(`HTTP error! status: ${response.status}`)
+  return response.json()
+}
+
+/**
+ * Legal moves of every piece of the side to move, in one request.
+ * Lets the board highlight moves locally instead of calling analyzeMove per drag.
+ */
+export async function getLegalMoves(
+  boardState: AnalyzeMoveRequest["boardState"],
+  totalMoves: number,
+): Promise<LegalMovesResponse> {
+  const response = await fetch(`${API_BASE_URL}/moves`, {
+    method: "POST",
+    headers: {
+      "Content-Type": "application/json",
+    },
+    body: JSON.stringify({ boardState, totalMoves }),
+  })
+  if (!response.ok) throw new Error(`HTTP error! status: ${response.status}`)
+  return response.json()
+}
+
+export interface MoveEvent {
+  ply: number
+  move: string
+  sideToMove: string
+  status: string
+  isCheck: boolean
+  winningTeam?: string
+  drawReason?: DrawReason | null
+}
+
+/**
+ * Follows a game live: onState gets the state once, then onMove gets each move played.
+ * Moves already contained in that state are skipped. Returns a function that unsubscribes.
+ */
+export function subscribeToGame(
+  gameId: string,
+  handlers: { onState: (state: GameState) => void; onMove: (event: MoveEvent) => void; onEnd?: () => void },
+): () => void {
+  const source = new EventSource(`${API_BASE_URL}/games/${gameId}/events`)
+  let ply = -1
+  source.addEventListener("state", (e) => {
+    const state: GameState = JSON.parse((e as MessageEvent).data)
+    ply = state.ply
+    handlers.onState(state)
+  })
+  source.addEventListener("move", (e) => {
+    const event: MoveEvent = JSON.parse((e as MessageEvent).data)
+    if (event.ply <= ply) return
+    ply = event.ply
+    handlers.onMove(event)
+  })
+  source.addEventListener("end", () => {
+    source.close()
+    handlers.onEnd?.()
+  })
+  return () => source.close()
+}
+
+export async function getGameLegalMoves(gameId: string): Promise<PieceMoves[]> {
+  const response = await fetch(`${API_BASE_URL}/games/${gameId}/moves`)
+  if (!response.ok) throw new Error(`HTTP error! status: ${response.status}`)
+  return response.json()
+}
+
+export interface BestMoveResponse {
+  bestMove: string | null
+  from?: { x: number; y: number }
+  to?: { x: number; y: number }
+  promotion?: string | null
+  source?: "book" | "tablebase" | "search"
+  // Search statistics are absent when the move came from the opening book or a tablebase
+  score?: number | null
+  mate?: number | null
+  depth?: number
+  nodes?: number
+  nps?: number
+  timeMs?: number
+  bookMoves?: BookMove[]
+  tablebase?: TablebaseResult
+  pv: string[]
+  error?: string
+}
+
+/**
+ * Asks the engine for a move in the given position (FEN) within timeMs.
+ */
+export async function getBestMove(fen: string, timeMs: number): Promise<BestMoveResponse> {
+  const response = await fetch(`${API_BASE_URL}/bestmove`, {
+    method: "POST",
+    headers: {
+      "Content-Type": "application/json",
+    },
+    body: JSON.stringify({ fen, timeMs }),
+  })
+  if (!response.ok) throw new Error(`HTTP error! status: ${response.status}`)
+  return response.json()
+}
+
+export interface MateResponse {
+  status: "mate" | "no-mate" | "unknown"
+  // Length of the shortest forced mate; null unless status is "mate"
+  mateIn?: number | null
+  // Moves proven to hold no mate (all of maxMoves for "no-mate")
+  noMateWithin?: number | null
+  line?: string[]
+  nodes?: number
+  timeMs?: number
+  error?: string
+}
+
+/**
+ * Verifies a "mate in maxMoves" claim: the mating line, or proof that there is none.
+ */
+export async function solveMate(fen: string, maxMoves: number, timeMs?: number): Promise<MateResponse> {
+  const response = await fetch(`${API_BASE_URL}/mate`, {
+    method: "POST",
+    headers: {
+      "Content-Type": "application/json",
+    },
+    body: JSON.stringify({ fen, maxMoves, timeMs }),
+  })
+  if (!response.ok) throw new Error(`HTTP error! status: ${response.status}`)
+  return response.json()
+}